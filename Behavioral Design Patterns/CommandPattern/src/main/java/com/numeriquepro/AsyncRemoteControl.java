@@ -0,0 +1,215 @@
+package com.numeriquepro;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Invoker asynchrone : les commandes arrivent de plusieurs threads dans une file bornée
+// et sont exécutées par lots sur un thread dédié. L'appelant récupère tout de suite un
+// CompletableFuture et n'attend pas le récepteur (sauf si la file est pleine).
+// Les actions enchaînées sans "Async" sur ce future s'exécutent sur le thread dédié.
+public class AsyncRemoteControl implements AutoCloseable {
+    private static final int SPINS = 100;
+
+    private final MpscQueue<Pending> queue;
+    private final int maxBatch;
+    private final Thread consumer;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    // Producteurs entre la vérification de closed et la mise en file
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    private final Latencies latencies = new Latencies();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile long batches; // écrit par le thread dédié seulement
+    private volatile int maxDepth;
+    private final long createdAt = System.nanoTime();
+
+    public AsyncRemoteControl(int capacity, int maxBatch) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch doit être positif : " + maxBatch);
+        }
+        this.queue = new MpscQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.consumer = new Thread(this::consume, "remote-control");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    // Attend une place libre si la file est pleine (contre-pression).
+    // RejectedExecutionException après close(), ici comme dans trySubmit().
+    public CompletableFuture<Void> submit(Command command) {
+        return enqueue(command, true);
+    }
+
+    // Sans attente : future en échec (RejectedExecutionException) si la file est pleine
+    public CompletableFuture<Void> trySubmit(Command command) {
+        Pending pending = enqueue(command, false);
+        if (pending == null) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("File de commandes pleine"));
+        }
+        return pending;
+    }
+
+    private Pending enqueue(Command command, boolean wait) {
+        Pending pending = new Pending(command);
+        submitting.incrementAndGet();
+        try {
+            if (closed) {
+                throw new RejectedExecutionException("Télécommande fermée");
+            }
+            pending.enqueuedAt = System.nanoTime();
+            while (!queue.offer(pending)) {
+                if (!wait) {
+                    return null;
+                }
+                LockSupport.parkNanos(1_000);
+            }
+            submitted.increment();
+        } finally {
+            submitting.decrementAndGet();
+        }
+        if (sleeping) {
+            LockSupport.unpark(consumer);
+        }
+        return pending;
+    }
+
+    private void consume() {
+        int idle = 0;
+        while (true) {
+            int depth = queue.size();
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+            if (queue.drain(this::run, maxBatch) > 0) {
+                batches++;
+                idle = 0;
+                continue;
+            }
+            if (closed && submitting.get() == 0 && queue.isEmpty()) {
+                return;
+            }
+            if (++idle < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            sleeping = true;
+            if (queue.isEmpty() && !closed) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+        }
+    }
+
+    private void run(Pending pending) {
+        try {
+            pending.command.execute();
+            executed.increment();
+            latencies.record(System.nanoTime() - pending.enqueuedAt);
+            pending.complete(null);
+        } catch (Throwable e) {
+            failed.increment();
+            pending.completeExceptionally(e);
+        }
+    }
+
+    public Stats stats() {
+        double seconds = (System.nanoTime() - createdAt) / 1e9;
+        long done = executed.sum();
+        return new Stats(submitted.sum(), done, failed.sum(), rejected.sum(), batches,
+                queue.size(), maxDepth, done / seconds,
+                latencies.percentile(0.50), latencies.percentile(0.99));
+    }
+
+    // Refuse les nouvelles commandes et attend l'exécution de celles déjà en file
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record Stats(long submitted, long executed, long failed, long rejected, long batches,
+                        int queueDepth, int maxQueueDepth, double commandsPerSecond,
+                        long p50Nanos, long p99Nanos) {
+        public double averageBatch() {
+            return batches == 0 ? 0 : (double) (executed + failed) / batches;
+        }
+    }
+
+    // Latences en attente + exécution, seaux logarithmiques (~12 % de précision).
+    // Un seul écrivain, le thread dédié : incrément sans CAS, publié par setRelease pour stats().
+    private static final class Latencies {
+        private static final int SUB_BUCKETS = 8;  // seaux par puissance de 2
+        private static final int MAGNITUDES = 62; // lignes de SUB_BUCKETS seaux : assez pour tout long positif
+        private static final int SUB_BITS = 3;    // log2(SUB_BUCKETS)
+
+        private final AtomicLongArray counts = new AtomicLongArray(MAGNITUDES * SUB_BUCKETS);
+
+        private void record(long nanos) {
+            int index = indexOf(Math.max(0, nanos));
+            counts.setRelease(index, counts.getPlain(index) + 1);
+        }
+
+        // Borne haute du seau qui contient le percentile p, 0 si rien n'est enregistré
+        private long percentile(double p) {
+            long[] snapshot = new long[counts.length()];
+            long total = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = counts.getAcquire(i);
+                total += snapshot[i];
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * p));
+            long seen = 0;
+            for (int i = 0; i < snapshot.length && total > 0; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+
+        // Seau de value : puissance de 2 (magnitude) puis les SUB_BITS bits qui suivent le bit de tête
+        private static int indexOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int magnitude = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        // Inverse de indexOf : plus grande valeur rangée dans le seau index
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int magnitude = index / SUB_BUCKETS + SUB_BITS - 1;
+            int sub = index % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + sub + 1) << (magnitude - SUB_BITS)) - 1;
+        }
+    }
+
+    // Le future rendu à l'appelant porte aussi la commande : une seule allocation par envoi
+    private static final class Pending extends CompletableFuture<Void> {
+        private final Command command;
+        private long enqueuedAt;
+
+        private Pending(Command command) {
+            this.command = command;
+        }
+    }
+}
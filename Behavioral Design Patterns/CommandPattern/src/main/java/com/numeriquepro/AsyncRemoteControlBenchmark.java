@@ -0,0 +1,129 @@
+package com.numeriquepro;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+// Plusieurs threads pilotent des milliers de lampes "lentes" (~2 µs par appel) :
+// exécution directe par l'appelant contre AsyncRemoteControl.
+// On compare le temps passé par les appelants, le débit total et la latence d'exécution.
+// Par défaut la rafale tient dans la file : au-delà, les appelants subissent la contre-pression.
+// Lancement : java -cp target/classes com.numeriquepro.AsyncRemoteControlBenchmark [threads] [commandes par thread]
+public class AsyncRemoteControlBenchmark {
+    private static final int LIGHTS = 4096;
+    private static final long DEVICE_NANOS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int producers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int commands = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        Command[] turnOn = new Command[LIGHTS];
+        Command[] turnOff = new Command[LIGHTS];
+        for (int i = 0; i < LIGHTS; i++) {
+            Light light = new SlowLight();
+            turnOn[i] = new TurnOnCommand(light);
+            turnOff[i] = new TurnOffCommand(light);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            long[] callerNanos = new long[1];
+            long total = run(producers, (producer, from) -> {
+                long start = System.nanoTime();
+                for (int i = 0; i < commands; i++) {
+                    int light = (from + i) & (LIGHTS - 1);
+                    ((i & 1) == 0 ? turnOn[light] : turnOff[light]).execute();
+                }
+                synchronized (callerNanos) {
+                    callerNanos[0] += System.nanoTime() - start;
+                }
+            });
+            report("exécution directe", producers, commands, callerNanos[0], total);
+
+            callerNanos[0] = 0;
+            try (AsyncRemoteControl remote = new AsyncRemoteControl(1 << 18, 256)) {
+                total = run(producers, (producer, from) -> {
+                    long start = System.nanoTime();
+                    CompletableFuture<Void> future = null;
+                    for (int i = 0; i < commands; i++) {
+                        int light = (from + i) & (LIGHTS - 1);
+                        future = remote.submit((i & 1) == 0 ? turnOn[light] : turnOff[light]);
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    synchronized (callerNanos) {
+                        callerNanos[0] += elapsed;
+                    }
+                    future.join();
+                });
+                report("AsyncRemoteControl", producers, commands, callerNanos[0], total);
+                AsyncRemoteControl.Stats stats = remote.stats();
+                System.out.printf("    %,d exécutées en %,d lots (%.1f par lot), file max %,d, latence p50 %,d µs, p99 %,d µs%n",
+                        stats.executed(), stats.batches(), stats.averageBatch(), stats.maxQueueDepth(),
+                        stats.p50Nanos() / 1_000, stats.p99Nanos() / 1_000);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Producer {
+        void run(int producer, int from);
+    }
+
+    // Durée totale, de la libération des producteurs à la fin du dernier
+    private static long run(int producers, Producer body) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                body.run(producer, producer * (LIGHTS / producers));
+            });
+            threads[p].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    private static void report(String name, int producers, int commands, long callerNanos, long totalNanos) {
+        double count = (double) producers * commands;
+        System.out.printf("%-19s : appelant %8.1f ns/commande, %,12.0f commandes/s%n",
+                name, callerNanos / count, count / (totalNanos / 1e9));
+    }
+
+    // Lampe silencieuse qui simule un appel réseau vers l'appareil
+    static final class SlowLight extends Light {
+        private boolean on;
+
+        @Override
+        public void turnOn() {
+            device();
+            on = true;
+        }
+
+        @Override
+        public void turnOff() {
+            device();
+            on = false;
+        }
+
+        @Override
+        public boolean isOn() {
+            return on;
+        }
+
+        private static void device() {
+            long end = System.nanoTime() + DEVICE_NANOS;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.numeriquepro;
+
+// Commande qui remplace l'effet des précédentes sur le même récepteur :
+// parmi les commandes en attente pour un récepteur, seule la dernière a besoin d'être exécutée.
+public interface CoalescibleCommand extends Command {
+    Object receiver();
+}
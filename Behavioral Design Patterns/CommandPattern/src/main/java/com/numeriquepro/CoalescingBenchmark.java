@@ -0,0 +1,97 @@
+package com.numeriquepro;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+// Rafales redondantes (allumer, éteindre, allumer... sur les mêmes lampes) : appels réels
+// aux appareils et durée totale, sans fusion puis avec CoalescingStage pour plusieurs fenêtres.
+// Lancement : java -cp target/classes com.numeriquepro.CoalescingBenchmark [lampes] [rafales]
+public class CoalescingBenchmark {
+    private static final long DEVICE_NANOS = 2_000;
+    private static final int BURST = 6; // commandes par lampe et par rafale
+
+    public static void main(String[] args) {
+        int lights = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int bursts = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        LongAdder deviceCalls = new LongAdder();
+        Command[][] burst = new Command[lights][];
+        for (int i = 0; i < lights; i++) {
+            Light light = new CountingLight(deviceCalls);
+            Command on = new TurnOnCommand(light);
+            Command off = new TurnOffCommand(light);
+            burst[i] = new Command[]{on, off, on, off, on, new MacroCommand(off, on)};
+        }
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            deviceCalls.reset();
+            long start = System.nanoTime();
+            for (int b = 0; b < bursts; b++) {
+                for (int step = 0; step < BURST; step++) {
+                    for (Command[] commands : burst) {
+                        commands[step].execute();
+                    }
+                }
+            }
+            report("sans fusion", deviceCalls.sum(), (long) bursts * lights * (BURST + 1), System.nanoTime() - start);
+
+            for (Duration window : new Duration[]{Duration.ofMillis(1), Duration.ofMillis(10)}) {
+                deviceCalls.reset();
+                start = System.nanoTime();
+                CoalescingStage.Stats stats;
+                try (CoalescingStage stage = new CoalescingStage(window)) {
+                    for (int b = 0; b < bursts; b++) {
+                        for (int step = 0; step < BURST; step++) {
+                            for (Command[] commands : burst) {
+                                stage.submit(commands[step]);
+                            }
+                        }
+                    }
+                    stage.flush();
+                    stats = stage.stats();
+                }
+                report("fenêtre " + window.toMillis() + " ms", deviceCalls.sum(), stats.submitted(), System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static void report(String name, long calls, long submitted, long nanos) {
+        System.out.printf("%-14s : %,9d commandes, %,9d appels aux lampes (%5.1f %%), %7.1f ms%n",
+                name, submitted, calls, 100.0 * calls / submitted, nanos / 1e6);
+    }
+
+    // Lampe silencieuse qui compte les appels et simule l'accès à l'appareil
+    static final class CountingLight extends Light {
+        private final LongAdder calls;
+        private boolean on;
+
+        CountingLight(LongAdder calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public void turnOn() {
+            device();
+            on = true;
+        }
+
+        @Override
+        public void turnOff() {
+            device();
+            on = false;
+        }
+
+        @Override
+        public boolean isOn() {
+            return on;
+        }
+
+        private void device() {
+            calls.increment();
+            long end = System.nanoTime() + DEVICE_NANOS;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
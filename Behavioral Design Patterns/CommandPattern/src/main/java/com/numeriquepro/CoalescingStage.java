@@ -0,0 +1,127 @@
+package com.numeriquepro;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Étape de fusion avant exécution : les commandes reçues pendant une fenêtre de temps sont
+// gardées en attente, et pour chaque récepteur seule la dernière CoalescibleCommand est
+// transmise (allumer, éteindre, allumer -> allumer). Les MacroCommand sont dépliées pour
+// que chacune de leurs commandes soit fusionnée avec les autres. Les autres commandes sont
+// transmises telles quelles. À la fin de la fenêtre, les commandes restantes partent dans
+// l'ordre de leur dernière arrivée : éteindre(L), X, allumer(L) donne X, allumer(L), et X
+// s'exécute bien avant le dernier changement de L, comme il a été soumis.
+public class CoalescingStage implements AutoCloseable {
+    private final long windowNanos;
+    private final Consumer<? super Command> sink;
+    private final ScheduledExecutorService scheduler;
+    // Deux vidages ne se chevauchent pas : l'ordre entre fenêtres est conservé
+    private final Object flushLock = new Object();
+
+    private Map<Object, Command> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+    private boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // Exécute les commandes fusionnées sur le thread de l'étape
+    public CoalescingStage(Duration window) {
+        this(window, Command::execute);
+    }
+
+    // sink reçoit les commandes fusionnées, par exemple asyncRemote::submit
+    public CoalescingStage(Duration window, Consumer<? super Command> sink) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Fenêtre négative : " + window);
+        }
+        this.windowNanos = window.toNanos();
+        this.sink = sink;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "coalescing-stage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void submit(Command command) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Étape de fusion fermée");
+            }
+            add(command);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void add(Command command) {
+        if (command instanceof MacroCommand macro) {
+            for (Command part : macro.commands()) {
+                add(part);
+            }
+            return;
+        }
+        submitted.increment();
+        // Une commande non fusionnable a sa propre clé : elle n'écrase rien
+        Object key = command instanceof CoalescibleCommand coalescible ? coalescible.receiver() : new Object();
+        pending.remove(key); // la commande retenue prend la place de sa dernière occurrence
+        pending.put(key, command);
+    }
+
+    // Transmet tout de suite les commandes en attente. Une commande refusée par sink (exception)
+    // est comptée dans failed et n'empêche pas la transmission des suivantes.
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Object, Command> batch;
+            synchronized (this) {
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                flushScheduled = false;
+            }
+            for (Command command : batch.values()) {
+                try {
+                    sink.accept(command);
+                    executed.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                }
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(submitted.sum(), executed.sum(), failed.sum());
+    }
+
+    // Transmet les commandes en attente puis arrête l'étape
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // submitted : commandes reçues (celles des macros comptées une à une) ; executed : commandes transmises ;
+    // failed : commandes dont la transmission a levé une exception
+    public record Stats(long submitted, long executed, long failed) {
+        public long coalesced() {
+            return submitted - executed - failed;
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package com.numeriquepro;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Journal durable des commandes sur les lampes, avec annulation/rétablissement.
+// Chaque commande (TurnOnCommand, TurnOffCommand, ou MacroCommand de celles-ci) est écrite
+// sous forme d'un enregistrement binaire de 16 octets dans des fichiers segments projetés
+// en mémoire. Les lampes sont désignées par leur position dans la liste passée à open().
+// Au démarrage, le journal est rejoué pour remettre chaque lampe dans son dernier état.
+// Seules les undoDepth dernières commandes restent annulables : la mémoire est bornée.
+// Le rejeu, lui, relit tous les segments : sa durée croît avec la taille totale du journal
+// (pas de point de reprise ni de compactage).
+//
+// Enregistrement : type (1 octet, écrit en dernier), action, état précédent, 1 octet libre,
+// numéro de lampe (int), séquence visée par UNDO/REDO (long). La séquence d'un enregistrement
+// est sa position globale dans le journal.
+public class CommandJournal implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 20;
+    public static final int DEFAULT_UNDO_DEPTH = 1 << 16;
+
+    private static final int MAGIC = 0x434D444A; // "CMDJ"
+    private static final int VERSION = 1;
+    private static final int HEADER = 16;
+    private static final int RECORD = 16;
+    private static final byte EXECUTE = 1;
+    private static final byte UNDO = 2;
+    private static final byte REDO = 3;
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final List<Light> lights;
+    private final Map<Light, Integer> ids = new IdentityHashMap<>();
+    private final int segmentRecords;
+
+    private Segment segment;
+    private boolean closed; // lu et écrit sous le verrou de l'instance
+    private volatile long next; // séquence du prochain enregistrement
+    private final History applied;
+    private final History undone;
+
+    // Validation groupée : un seul force() couvre tous les enregistrements écrits avant lui
+    private final Object commitLock = new Object();
+    private long durable;
+    private boolean forcing;
+    private Throwable forceFailure; // premier échec de force() : plus rien n'est garanti ensuite
+
+    private long replayedRecords;
+    private long replayNanos;
+
+    private CommandJournal(Path directory, List<Light> lights, int segmentRecords, int undoDepth) {
+        this.directory = directory;
+        this.lights = List.copyOf(lights);
+        for (int id = 0; id < this.lights.size(); id++) {
+            ids.putIfAbsent(this.lights.get(id), id);
+        }
+        this.segmentRecords = segmentRecords;
+        this.applied = new History(undoDepth);
+        this.undone = new History(undoDepth);
+    }
+
+    public static CommandJournal open(Path directory, List<Light> lights) throws IOException {
+        return open(directory, lights, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    public static CommandJournal open(Path directory, List<Light> lights, int segmentRecords) throws IOException {
+        return open(directory, lights, segmentRecords, DEFAULT_UNDO_DEPTH);
+    }
+
+    // undoDepth : nombre maximal de commandes annulables (et rétablissables), le reste est oublié
+    public static CommandJournal open(Path directory, List<Light> lights, int segmentRecords, int undoDepth)
+            throws IOException {
+        if (segmentRecords <= 0) {
+            throw new IllegalArgumentException("segmentRecords doit être positif : " + segmentRecords);
+        }
+        if (undoDepth <= 0) {
+            throw new IllegalArgumentException("undoDepth doit être positif : " + undoDepth);
+        }
+        Files.createDirectories(directory);
+        CommandJournal journal = new CommandJournal(directory, lights, segmentRecords, undoDepth);
+        journal.replay();
+        return journal;
+    }
+
+    // Écrit et applique la commande sans attendre qu'elle soit durable ; renvoie sa séquence
+    // (celle de la dernière commande pour une macro)
+    public synchronized long submit(Command command) throws IOException {
+        ensureOpen();
+        if (command instanceof MacroCommand macro) {
+            long last = next - 1;
+            for (Command part : macro.commands()) {
+                last = submit(part);
+            }
+            return last;
+        }
+        Light light;
+        boolean on;
+        if (command instanceof TurnOnCommand turnOn) {
+            light = turnOn.getLight();
+            on = true;
+        } else if (command instanceof TurnOffCommand turnOff) {
+            light = turnOff.getLight();
+            on = false;
+        } else {
+            throw new IllegalArgumentException("Commande non journalisable : " + command);
+        }
+        int id = idOf(light);
+        boolean previous = light.isOn();
+        long sequence = append(EXECUTE, on, previous, id, -1);
+        undone.clear(); // une nouvelle commande efface ce qui pouvait être rétabli
+        applied.push(sequence, id, on, previous);
+        set(light, on);
+        return sequence;
+    }
+
+    // Écrit, applique et attend que la commande soit sur disque
+    public long execute(Command command) throws IOException {
+        long sequence = submit(command);
+        awaitDurable(sequence);
+        return sequence;
+    }
+
+    // Annule, de la plus récente à la plus ancienne, les commandes de séquence > sequence
+    public void undoTo(long sequence) throws IOException {
+        long last = -1;
+        synchronized (this) {
+            ensureOpen();
+            while (!applied.isEmpty() && applied.topSequence() > sequence) {
+                int id = applied.topLight();
+                boolean previous = applied.topPrevious();
+                last = append(UNDO, previous, applied.topOn(), id, applied.topSequence());
+                undone.push(applied.topSequence(), id, applied.topOn(), previous);
+                applied.pop();
+                set(lights.get(id), previous);
+            }
+        }
+        awaitDurable(last);
+    }
+
+    // Rétablit, de la plus ancienne à la plus récente, les commandes annulées de séquence <= sequence
+    public void redoTo(long sequence) throws IOException {
+        long last = -1;
+        synchronized (this) {
+            ensureOpen();
+            while (!undone.isEmpty() && undone.topSequence() <= sequence) {
+                int id = undone.topLight();
+                boolean on = undone.topOn();
+                last = append(REDO, on, undone.topPrevious(), id, undone.topSequence());
+                applied.push(undone.topSequence(), id, on, undone.topPrevious());
+                undone.pop();
+                set(lights.get(id), on);
+            }
+        }
+        awaitDurable(last);
+    }
+
+    // Séquence de la dernière commande appliquée (non annulée), -1 si aucune
+    public synchronized long lastApplied() {
+        return applied.isEmpty() ? -1 : applied.topSequence();
+    }
+
+    public long nextSequence() {
+        return next;
+    }
+
+    public long replayedRecords() {
+        return replayedRecords;
+    }
+
+    public long replayNanos() {
+        return replayNanos;
+    }
+
+    // Attend que l'enregistrement sequence (et tous les précédents) soit sur disque.
+    // Le premier thread qui attend fait le force() pour tous ceux qui arrivent entre-temps.
+    // InterruptedIOException si l'attente est interrompue : la commande est déjà appliquée,
+    // mais rien ne garantit qu'elle soit sur disque. IOException si un force() a échoué :
+    // tous les threads en attente la reçoivent, pas seulement celui qui a fait le force().
+    public void awaitDurable(long sequence) throws IOException {
+        while (true) {
+            synchronized (commitLock) {
+                while (durable <= sequence && forcing) {
+                    try {
+                        commitLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        InterruptedIOException interrupted = new InterruptedIOException(
+                                "Attente interrompue avant que la séquence " + sequence + " soit sur disque");
+                        interrupted.initCause(e);
+                        throw interrupted;
+                    }
+                }
+                if (durable > sequence) {
+                    return;
+                }
+                if (forceFailure != null) {
+                    throw new IOException("Échec de force() : la séquence " + sequence
+                            + " n'est pas garantie sur disque", forceFailure);
+                }
+                forcing = true;
+            }
+            long target;
+            Segment current;
+            synchronized (this) {
+                target = next;
+                current = segment;
+            }
+            Throwable failure = null;
+            try {
+                if (current != null) {
+                    current.buffer.force();
+                }
+            } catch (Throwable e) {
+                failure = e;
+            }
+            synchronized (commitLock) {
+                // durable n'avance qu'après un force() réussi
+                if (failure == null) {
+                    durable = Math.max(durable, target);
+                } else if (forceFailure == null) {
+                    forceFailure = failure;
+                }
+                forcing = false;
+                commitLock.notifyAll();
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            // sinon le tour suivant lève l'IOException, comme pour les autres threads en attente
+        }
+    }
+
+    // Force le segment courant et rend le journal inutilisable (IllegalStateException).
+    // La projection du segment n'est plus référencée : elle est libérée avec le tampon par le GC.
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (segment != null) {
+            segment.buffer.force();
+            segment = null;
+        }
+        synchronized (commitLock) {
+            durable = next;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal fermé");
+        }
+    }
+
+    private int idOf(Light light) {
+        Integer id = ids.get(light);
+        if (id == null) {
+            throw new IllegalArgumentException("Lampe inconnue du journal");
+        }
+        return id;
+    }
+
+    private static void set(Light light, boolean on) {
+        if (on) {
+            light.turnOn();
+        } else {
+            light.turnOff();
+        }
+    }
+
+    // Appelé sous le verrou de l'instance
+    private long append(byte type, boolean on, boolean previous, int light, long target) throws IOException {
+        long sequence = next;
+        if (segment == null || sequence - segment.firstSequence == segmentRecords) {
+            roll(sequence);
+        }
+        int offset = HEADER + (int) (sequence - segment.firstSequence) * RECORD;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.put(offset + 1, (byte) (on ? 1 : 0));
+        buffer.put(offset + 2, (byte) (previous ? 1 : 0));
+        buffer.putInt(offset + 4, light);
+        buffer.putLong(offset + 8, target);
+        buffer.put(offset, type);
+        next = sequence + 1;
+        return sequence;
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        if (segment != null) {
+            segment.buffer.force();
+        }
+        segment = Segment.create(directory.resolve(String.format("%020d%s", firstSequence, SUFFIX)),
+                firstSequence, segmentRecords);
+    }
+
+    private void replay() throws IOException {
+        long start = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        byte[] states = new byte[lights.size()];
+        for (int id = 0; id < states.length; id++) {
+            states[id] = (byte) (lights.get(id).isOn() ? 1 : 0);
+        }
+        long records = 0;
+        // Seul le dernier segment, où l'on continuera d'écrire, est projeté en mémoire ;
+        // les autres sont lus dans un tampon réutilisé et ne restent pas projetés.
+        ByteBuffer read = null;
+        for (int f = 0; f < files.size(); f++) {
+            Path file = files.get(f);
+            Segment current = null;
+            ByteBuffer buffer;
+            if (f == files.size() - 1) {
+                current = Segment.open(file);
+                buffer = current.buffer;
+            } else {
+                read = Segment.read(file, read);
+                buffer = read;
+            }
+            long firstSequence = buffer.getLong(8);
+            if (firstSequence != next) {
+                throw new IOException("Segment inattendu " + file + " : séquence " + firstSequence
+                        + " au lieu de " + next);
+            }
+            int count = (buffer.limit() - HEADER) / RECORD;
+            int index = 0;
+            for (; index < count; index++) {
+                int offset = HEADER + index * RECORD;
+                byte type = buffer.get(offset);
+                if (type == 0) {
+                    break; // fin des enregistrements (ou écriture interrompue)
+                }
+                boolean on = buffer.get(offset + 1) != 0;
+                boolean previous = buffer.get(offset + 2) != 0;
+                int id = buffer.getInt(offset + 4);
+                long target = buffer.getLong(offset + 8);
+                long sequence = firstSequence + index;
+                if (id < 0 || id >= states.length) {
+                    throw new IOException("Lampe " + id + " inconnue à la séquence " + sequence);
+                }
+                switch (type) {
+                    case EXECUTE -> {
+                        undone.clear();
+                        applied.push(sequence, id, on, previous);
+                        states[id] = (byte) (on ? 1 : 0);
+                    }
+                    case UNDO -> {
+                        undone.push(target, id, previous, on);
+                        applied.pop();
+                        states[id] = (byte) (on ? 1 : 0);
+                    }
+                    case REDO -> {
+                        applied.push(target, id, on, previous);
+                        undone.pop();
+                        states[id] = (byte) (on ? 1 : 0);
+                    }
+                    default -> throw new IOException("Type d'enregistrement " + type + " à la séquence " + sequence);
+                }
+            }
+            records += index;
+            next = firstSequence + index;
+            if (current != null) {
+                segment = current;
+                clearTail(current, index, count);
+            }
+        }
+        if (segment != null && segment.capacity() != segmentRecords) {
+            // segment écrit avec une autre taille : la suite ira dans un nouveau fichier
+            segment.buffer.force();
+            segment = null;
+        }
+        // Une seule action par lampe pour la remettre dans son état final
+        for (int id = 0; id < states.length; id++) {
+            boolean on = states[id] != 0;
+            if (lights.get(id).isOn() != on) {
+                set(lights.get(id), on);
+            }
+        }
+        durable = next;
+        replayedRecords = records;
+        replayNanos = System.nanoTime() - start;
+    }
+
+    // Après un arrêt brutal, des pages non forcées peuvent avoir atteint le disque dans le
+    // désordre : des enregistrements anciens peuvent suivre le trou où le rejeu s'est arrêté.
+    // Les nouveaux enregistrements reboucheraient le trou et le rejeu suivant les lirait :
+    // on efface donc leur octet de type avant toute nouvelle écriture.
+    private static void clearTail(Segment segment, int from, int count) {
+        MappedByteBuffer buffer = segment.buffer;
+        boolean cleared = false;
+        for (int index = from; index < count; index++) {
+            int offset = HEADER + index * RECORD;
+            if (buffer.get(offset) != 0) {
+                buffer.put(offset, (byte) 0);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            buffer.force();
+        }
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final long firstSequence;
+
+        private Segment(MappedByteBuffer buffer, long firstSequence) {
+            this.buffer = buffer;
+            this.firstSequence = firstSequence;
+        }
+
+        private int capacity() {
+            return (buffer.capacity() - HEADER) / RECORD;
+        }
+
+        private static Segment create(Path file, long firstSequence, int records) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER + (long) records * RECORD);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putLong(8, firstSequence);
+                return new Segment(buffer, firstSequence);
+            }
+        }
+
+        private static Segment open(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                checkHeader(buffer, file);
+                return new Segment(buffer, buffer.getLong(8));
+            }
+        }
+
+        // Lecture sans projection, dans reuse s'il est assez grand
+        private static ByteBuffer read(Path file, ByteBuffer reuse) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Segment de journal trop grand : " + file);
+                }
+                ByteBuffer buffer = reuse != null && reuse.capacity() >= size
+                        ? reuse.clear()
+                        : ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.limit((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Segment de journal tronqué : " + file);
+                    }
+                }
+                buffer.flip();
+                checkHeader(buffer, file);
+                return buffer;
+            }
+        }
+
+        private static void checkHeader(ByteBuffer buffer, Path file) throws IOException {
+            if (buffer.limit() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Segment de journal invalide : " + file);
+            }
+        }
+    }
+
+    // Pile d'entrées (séquence, lampe, action, état précédent) en tableaux primitifs circulaires.
+    // Au-delà de maxDepth entrées, la plus ancienne est oubliée : elle ne peut plus être annulée.
+    private static final class History {
+        private final int maxDepth;
+        private long[] sequences;
+        private int[] lights;
+        private byte[] flags; // bit 0 : allumer, bit 1 : état précédent
+        private int first; // case de l'entrée la plus ancienne
+        private int size;
+
+        private History(int maxDepth) {
+            this.maxDepth = maxDepth;
+            int capacity = Math.min(64, maxDepth);
+            sequences = new long[capacity];
+            lights = new int[capacity];
+            flags = new byte[capacity];
+        }
+
+        private void push(long sequence, int light, boolean on, boolean previous) {
+            if (size == sequences.length && size < maxDepth) {
+                grow(Math.min(maxDepth, size * 2));
+            }
+            if (size == sequences.length) {
+                first = (first + 1) % sequences.length;
+                size--;
+            }
+            int slot = (first + size) % sequences.length;
+            sequences[slot] = sequence;
+            lights[slot] = light;
+            flags[slot] = (byte) ((on ? 1 : 0) | (previous ? 2 : 0));
+            size++;
+        }
+
+        // Remet les entrées dans l'ordre à partir de la case 0
+        private void grow(int capacity) {
+            long[] newSequences = new long[capacity];
+            int[] newLights = new int[capacity];
+            byte[] newFlags = new byte[capacity];
+            for (int i = 0; i < size; i++) {
+                int slot = (first + i) % sequences.length;
+                newSequences[i] = sequences[slot];
+                newLights[i] = lights[slot];
+                newFlags[i] = flags[slot];
+            }
+            sequences = newSequences;
+            lights = newLights;
+            flags = newFlags;
+            first = 0;
+        }
+
+        private void pop() {
+            if (size > 0) {
+                size--;
+            }
+        }
+
+        private void clear() {
+            first = 0;
+            size = 0;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int top() {
+            return (first + size - 1) % sequences.length;
+        }
+
+        private long topSequence() {
+            return sequences[top()];
+        }
+
+        private int topLight() {
+            return lights[top()];
+        }
+
+        private boolean topOn() {
+            return (flags[top()] & 1) != 0;
+        }
+
+        private boolean topPrevious() {
+            return (flags[top()] & 2) != 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.numeriquepro;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+// Commandes journalisées par seconde (une commande durable par appel, avec 1 puis plusieurs
+// threads : la validation groupée partage les force()), puis vitesse du rejeu au redémarrage.
+// Lancement : java -cp target/classes com.numeriquepro.CommandJournalBenchmark [commandes par thread] [threads]
+public class CommandJournalBenchmark {
+    private static final int LIGHTS = 1024;
+
+    public static void main(String[] args) throws Exception {
+        int commands = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            List<Light> lights = newLights();
+            try (CommandJournal journal = CommandJournal.open(directory, lights)) {
+                for (int writers : new int[]{1, threads}) {
+                    long start = System.nanoTime();
+                    run(writers, writer -> {
+                        for (int i = 0; i < commands; i++) {
+                            Light light = lights.get((writer * 31 + i) & (LIGHTS - 1));
+                            journal.execute((i & 1) == 0 ? new TurnOnCommand(light) : new TurnOffCommand(light));
+                        }
+                    });
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.printf("%2d thread(s), commande durable : %,12.0f commandes/s%n",
+                            writers, writers * commands / seconds);
+                }
+
+                long start = System.nanoTime();
+                long last = -1;
+                for (int i = 0; i < commands * threads; i++) {
+                    Light light = lights.get(i & (LIGHTS - 1));
+                    last = journal.submit((i & 3) == 0 ? new TurnOffCommand(light) : new TurnOnCommand(light));
+                }
+                journal.awaitDurable(last);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf(" 1 thread, un seul force() final : %,12.0f commandes/s%n", commands * threads / seconds);
+
+                // quelques annulations pour que le rejeu ait aussi des UNDO/REDO
+                journal.undoTo(last - 100);
+                journal.redoTo(last - 50);
+            }
+
+            for (int round = 0; round < 3; round++) {
+                List<Light> restored = newLights();
+                try (CommandJournal journal = CommandJournal.open(directory, restored)) {
+                    boolean same = true;
+                    for (int id = 0; id < LIGHTS; id++) {
+                        same &= restored.get(id).isOn() == lights.get(id).isOn();
+                    }
+                    System.out.printf("rejeu : %,d enregistrements en %.1f ms (%,.0f/s), %s%n",
+                            journal.replayedRecords(), journal.replayNanos() / 1e6,
+                            journal.replayedRecords() / (journal.replayNanos() / 1e9),
+                            same ? "lampes identiques" : "ÉCART");
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                    try {
+                        Files.delete(path);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+    }
+
+    private static List<Light> newLights() {
+        List<Light> lights = new ArrayList<>(LIGHTS);
+        for (int i = 0; i < LIGHTS; i++) {
+            lights.add(new QuietLight());
+        }
+        return lights;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void run(int writer) throws IOException;
+    }
+
+    private static void run(int writers, Writer body) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            new Thread(() -> {
+                try {
+                    body.run(writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+    }
+
+    // Lampe sans affichage
+    static final class QuietLight extends Light {
+        private boolean on;
+
+        @Override
+        public void turnOn() {
+            on = true;
+        }
+
+        @Override
+        public void turnOff() {
+            on = false;
+        }
+
+        @Override
+        public boolean isOn() {
+            return on;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.numeriquepro;
+
+import java.util.List;
+
+// Commande composite : exécute ses commandes dans l'ordre
+public class MacroCommand implements Command {
+    private final List<Command> commands;
+
+    public MacroCommand(Command... commands) {
+        this(List.of(commands));
+    }
+
+    public MacroCommand(List<Command> commands) {
+        this.commands = List.copyOf(commands);
+    }
+
+    public List<Command> commands() {
+        return commands;
+    }
+
+    @Override
+    public void execute() {
+        for (Command command : commands) {
+            command.execute();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.numeriquepro;
 
+import java.time.Duration;
+
 // Client
 public class Main {
     public static void main(String[] args) {
@@ -14,5 +16,20 @@ public class Main {
 
         remote.setCommand(turnOff);
         remote.pressButton(); // Lumière éteinte
+
+        // Les mêmes commandes, exécutées sur le thread de la télécommande asynchrone
+        try (AsyncRemoteControl asyncRemote = new AsyncRemoteControl(1024, 64)) {
+            asyncRemote.submit(turnOn);
+            asyncRemote.submit(turnOff).join();
+            System.out.println(asyncRemote.stats());
+        }
+
+        // Macro : allumer, éteindre, allumer. Fusionnées, une seule commande atteint la lampe
+        Command blink = new MacroCommand(turnOn, turnOff, turnOn);
+        try (CoalescingStage stage = new CoalescingStage(Duration.ofMillis(10))) {
+            stage.submit(blink); // Lumière allumée
+            stage.flush();
+            System.out.println(stage.stats());
+        }
     }
 }
\ No newline at end of file
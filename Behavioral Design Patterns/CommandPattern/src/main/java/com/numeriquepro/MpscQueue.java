@@ -0,0 +1,89 @@
+package com.numeriquepro;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// File bornée sans verrou : plusieurs producteurs, un seul consommateur.
+// Chaque case porte un numéro de séquence qui indique si elle est libre (== position
+// d'écriture attendue) ou remplie (== position + 1). Les producteurs se disputent la
+// position d'écriture par CAS ; le consommateur avance seul.
+final class MpscQueue<E> {
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    MpscQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacité doit être une puissance de 2 : " + capacity);
+        }
+        buffer = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int slot = 0; slot < capacity; slot++) {
+            sequences.set(slot, slot);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    // false si la file est pleine
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = sequences.getAcquire(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[slot] = element;
+                    sequences.setRelease(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // Consommateur uniquement : null si la file est vide (ou si l'élément suivant est en cours d'écriture)
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head.get();
+        int slot = (int) position & mask;
+        if (sequences.getAcquire(slot) != position + 1) {
+            return null;
+        }
+        E element = (E) buffer[slot];
+        buffer[slot] = null;
+        sequences.setRelease(slot, position + capacity());
+        head.setRelease(position + 1);
+        return element;
+    }
+
+    // Consommateur uniquement : retire au plus max éléments
+    int drain(Consumer<? super E> consumer, int max) {
+        int drained = 0;
+        E element;
+        while (drained < max && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    // Aucun élément réservé : même ceux en cours d'écriture comptent
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
@@ -10,4 +10,11 @@ public class RemoteControl {
     public void pressButton() {
         command.execute();
     }
+
+    // Annule la dernière commande exécutée, si elle le permet
+    public void pressUndo() {
+        if (command instanceof UndoableCommand undoable) {
+            undoable.undo();
+        }
+    }
 }
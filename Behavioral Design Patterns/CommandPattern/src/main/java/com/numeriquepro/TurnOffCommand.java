@@ -1,14 +1,34 @@
 package com.numeriquepro;
 
-public class TurnOffCommand implements Command {
+public class TurnOffCommand implements CoalescibleCommand, UndoableCommand {
     private Light light;
+    private boolean wasOn;
 
     public TurnOffCommand(Light light) {
         this.light = light;
     }
 
+    public Light getLight() {
+        return light;
+    }
+
+    @Override
+    public Object receiver() {
+        return light;
+    }
+
     @Override
     public void execute() {
+        wasOn = light.isOn();
         light.turnOff();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void undo() {
+        if (wasOn) {
+            light.turnOn();
+        } else {
+            light.turnOff();
+        }
+    }
+}
@@ -1,14 +1,34 @@
 package com.numeriquepro;
 
-public class TurnOnCommand implements Command {
+public class TurnOnCommand implements CoalescibleCommand, UndoableCommand {
     private Light light;
+    private boolean wasOn;
 
     public TurnOnCommand(Light light) {
         this.light = light;
     }
 
+    public Light getLight() {
+        return light;
+    }
+
+    @Override
+    public Object receiver() {
+        return light;
+    }
+
     @Override
     public void execute() {
+        wasOn = light.isOn();
         light.turnOn();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void undo() {
+        if (wasOn) {
+            light.turnOn();
+        } else {
+            light.turnOff();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.numeriquepro;
+
+// Commande annulable : undo() remet le récepteur dans l'état d'avant le dernier execute()
+public interface UndoableCommand extends Command {
+    void undo();
+}
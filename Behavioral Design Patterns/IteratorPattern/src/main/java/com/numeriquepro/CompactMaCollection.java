@@ -0,0 +1,197 @@
+package com.numeriquepro;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Variante compacte de MaCollection : tous les caractères sont rangés bout à bout dans un seul
+// ByteBuffer (sur le tas ou hors tas), avec un index d'offsets int. Pas d'objet String par élément.
+// Un élément est stocké en Latin-1 (1 octet par caractère) si possible, sinon en UTF-16 (2 octets) ;
+// le bit de poids fort de son offset indique l'UTF-16. Taille totale limitée à 2 Go.
+// viewIterator() rend des CharSequence sans allocation : c'est toujours la même vue, repositionnée
+// à chaque next(), à ne pas garder d'un élément à l'autre (toString() pour en faire une copie).
+public class CompactMaCollection implements Iterable<String> {
+    private static final int UTF16 = 0x8000_0000;
+    private static final int OFFSET = 0x7FFF_FFFF;
+
+    private final boolean direct;
+    private ByteBuffer bytes;
+    private int[] starts = new int[17]; // starts[size] : fin du dernier élément
+    private int size;
+
+    public CompactMaCollection() {
+        this(false);
+    }
+
+    // direct : stockage hors tas (ByteBuffer.allocateDirect)
+    public CompactMaCollection(boolean direct) {
+        this.direct = direct;
+        this.bytes = allocate(256);
+    }
+
+    public void add(String e) {
+        int length = e.length();
+        boolean latin1 = true;
+        for (int i = 0; i < length && latin1; i++) {
+            latin1 = e.charAt(i) < 256;
+        }
+        int end = starts[size] & OFFSET;
+        long needed = (long) end + (latin1 ? length : 2L * length);
+        if (needed > OFFSET) {
+            throw new IllegalStateException("CompactMaCollection limitée à 2 Go de caractères");
+        }
+        ensureCapacity((int) needed);
+        if (size + 1 == starts.length) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+        }
+        if (latin1) {
+            for (int i = 0; i < length; i++) {
+                bytes.put(end + i, (byte) e.charAt(i));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                bytes.putChar(end + 2 * i, e.charAt(i));
+            }
+            starts[size] |= UTF16;
+        }
+        starts[++size] = (int) needed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return view(index).toString();
+    }
+
+    // Octets occupés par les caractères, sans l'index
+    public long dataBytes() {
+        return starts[size] & OFFSET;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new ForwardIterator();
+    }
+
+    public Iterator<String> reverseIterator() {
+        return new ReverseIterator();
+    }
+
+    public Iterator<CharSequence> viewIterator() {
+        return new ViewIterator(false);
+    }
+
+    public Iterator<CharSequence> reverseViewIterator() {
+        return new ViewIterator(true);
+    }
+
+    private View view(int index) {
+        View view = new View();
+        view.moveTo(index);
+        return view;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= bytes.capacity()) {
+            return;
+        }
+        int capacity = (int) Math.min(OFFSET, Math.max(needed, 2L * bytes.capacity()));
+        ByteBuffer grown = allocate(capacity);
+        grown.put(0, bytes, 0, starts[size] & OFFSET);
+        bytes = grown;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private class ForwardIterator implements Iterator<String> {
+        private int index = 0;
+        public boolean hasNext() { return index < size; }
+        public String next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return get(index++);
+        }
+    }
+
+    private class ReverseIterator implements Iterator<String> {
+        private int index = size - 1;
+        public boolean hasNext() { return index >= 0; }
+        public String next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return get(index--);
+        }
+    }
+
+    private class ViewIterator implements Iterator<CharSequence> {
+        private final View view = new View();
+        private final boolean reverse;
+        private int index;
+
+        private ViewIterator(boolean reverse) {
+            this.reverse = reverse;
+            this.index = reverse ? size - 1 : 0;
+        }
+
+        public boolean hasNext() { return reverse ? index >= 0 : index < size; }
+        public CharSequence next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            view.moveTo(reverse ? index-- : index++);
+            return view;
+        }
+    }
+
+    // Vue sur un élément, lue directement dans le tampon
+    private class View implements CharSequence {
+        private int start;
+        private int length;
+        private boolean utf16;
+
+        private void moveTo(int index) {
+            int raw = starts[index];
+            start = raw & OFFSET;
+            utf16 = (raw & UTF16) != 0;
+            int bytesLength = (starts[index + 1] & OFFSET) - start;
+            length = utf16 ? bytesLength >> 1 : bytesLength;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return utf16 ? bytes.getChar(start + 2 * index) : (char) (bytes.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            if (!utf16) {
+                byte[] latin1 = new byte[length];
+                bytes.get(start, latin1);
+                return new String(latin1, StandardCharsets.ISO_8859_1);
+            }
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+}
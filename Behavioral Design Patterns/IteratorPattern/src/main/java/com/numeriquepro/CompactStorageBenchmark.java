@@ -0,0 +1,84 @@
+package com.numeriquepro;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+// Mémoire par élément et vitesse de parcours : MaCollection (un String par élément) contre
+// CompactMaCollection sur le tas et hors tas, parcourue en String ou en vues CharSequence.
+// Lancement : java -cp target/classes com.numeriquepro.CompactStorageBenchmark [éléments]
+public class CompactStorageBenchmark {
+    static Object retained;
+    static volatile long blackhole;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        MaCollection strings = measureHeap("MaCollection", count, 0, () -> {
+            MaCollection collection = new MaCollection();
+            for (int i = 0; i < count; i++) {
+                collection.add(element(i));
+            }
+            return collection;
+        });
+        CompactMaCollection heap = measureHeap("compacte (tas)", count, 0, () -> fill(new CompactMaCollection(false), count));
+        CompactMaCollection offHeap = fill(new CompactMaCollection(true), count);
+        measureHeap("compacte (hors tas)", count, offHeap.dataBytes(), () -> fill(new CompactMaCollection(true), count));
+
+        for (int round = 0; round < 5; round++) {
+            System.out.println("--- tour " + (round + 1));
+            measure("MaCollection, String", count, () -> sum(strings.iterator()));
+            measure("compacte tas, String", count, () -> sum(heap.iterator()));
+            measure("compacte tas, vue", count, () -> sum(heap.viewIterator()));
+            measure("compacte hors tas, vue", count, () -> sum(offHeap.viewIterator()));
+        }
+    }
+
+    // Chaînes courtes, comme des identifiants
+    private static String element(int i) {
+        return "id-" + i;
+    }
+
+    private static CompactMaCollection fill(CompactMaCollection collection, int count) {
+        for (int i = 0; i < count; i++) {
+            collection.add(element(i));
+        }
+        return collection;
+    }
+
+    private static long sum(Iterator<? extends CharSequence> iterator) {
+        long h = 0;
+        while (iterator.hasNext()) {
+            CharSequence s = iterator.next();
+            for (int i = 0; i < s.length(); i++) {
+                h = 31 * h + s.charAt(i);
+            }
+        }
+        return h;
+    }
+
+    private static void measure(String name, int count, Supplier<Long> loop) {
+        long start = System.nanoTime();
+        blackhole = loop.get();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-24s : %,14.0f éléments/s%n", name, count / (elapsed / 1e9));
+    }
+
+    // offHeap : octets alloués hors tas, ajoutés au total
+    private static <T> T measureHeap(String name, int count, long offHeap, Supplier<T> build) {
+        long before = usedHeap();
+        T result = build.get();
+        retained = result;
+        long after = usedHeap();
+        System.out.printf("%-20s : %6.1f octets/élément sur le tas, %6.1f hors tas%n",
+                name, (double) (after - before) / count, (double) offHeap / count);
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,101 @@
+package com.numeriquepro;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Ajouts et parcours simultanés pendant une durée fixe : ajouts/s et éléments lus/s pour
+// ConcurrentMaCollection, CopyOnWriteArrayList et une liste synchronisée (copie sous verrou).
+// Chaque parcours commence par un instantané puis lit au plus 100 000 éléments.
+// Lancement : java -cp target/classes com.numeriquepro.ConcurrentIterationBenchmark [écrivains] [lecteurs] [ms]
+public class ConcurrentIterationBenchmark {
+    private static final int PRELOAD = 100_000;
+    private static final int MAX_READ = 100_000;
+
+    static volatile long blackhole;
+
+    public static void main(String[] args) throws InterruptedException {
+        int writers = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long millis = args.length > 2 ? Long.parseLong(args[2]) : 1_000;
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            ConcurrentMaCollection concurrent = new ConcurrentMaCollection();
+            run("ConcurrentMaCollection", writers, readers, millis, concurrent::add, () -> concurrent);
+            List<String> copyOnWrite = new CopyOnWriteArrayList<>();
+            run("CopyOnWriteArrayList", writers, readers, millis, copyOnWrite::add, () -> copyOnWrite);
+            List<String> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+            run("synchronizedList", writers, readers, millis, synchronizedList::add, () -> () -> {
+                synchronized (synchronizedList) {
+                    return new ArrayList<>(synchronizedList.subList(0, Math.min(MAX_READ, synchronizedList.size())))
+                            .iterator();
+                }
+            });
+        }
+    }
+
+    private static void run(String name, int writers, int readers, long millis, Consumer<String> add,
+                            Supplier<Iterable<String>> snapshot) throws InterruptedException {
+        for (int i = 0; i < PRELOAD; i++) {
+            add.accept("element-" + i);
+        }
+        LongAdder added = new LongAdder();
+        LongAdder elementsRead = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                await(start);
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    add.accept("w" + writer + "-" + count++);
+                }
+                added.add(count);
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                long count = 0;
+                long h = 0;
+                while (System.nanoTime() < deadline) {
+                    int n = 0;
+                    for (String s : snapshot.get()) {
+                        h += s.length();
+                        if (++n == MAX_READ) {
+                            break;
+                        }
+                    }
+                    count += n;
+                }
+                elementsRead.add(count);
+                blackhole = h;
+            }));
+        }
+        threads.forEach(Thread::start);
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("%-22s : %,12.0f ajouts/s, %,14.0f éléments lus/s%n",
+                name, added.sum() / seconds, elementsRead.sum() / seconds);
+    }
+
+    private static void await(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.numeriquepro;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Variante de MaCollection pour lire pendant que d'autres threads ajoutent.
+// Les éléments sont rangés dans des blocs de taille fixe qui ne sont jamais déplacés ni modifiés
+// une fois remplis : seul le répertoire des blocs est recopié quand il grandit (copie sur écriture
+// du répertoire, pas des éléments). Un instantané est donc juste (répertoire, taille) : il ne
+// coûte rien à prendre et ne voit jamais les ajouts postérieurs.
+// Les ajouts sont sérialisés entre écrivains ; les lecteurs ne prennent aucun verrou.
+public class ConcurrentMaCollection implements Iterable<String> {
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK = 1 << CHUNK_BITS;
+
+    private volatile String[][] chunks = new String[4][];
+    // Écrit après l'élément et le répertoire : un lecteur qui lit size voit tout ce qui précède
+    private volatile int size;
+
+    public synchronized void add(String e) {
+        int index = size;
+        int chunk = index >>> CHUNK_BITS;
+        String[][] directory = chunks;
+        if (chunk == directory.length) {
+            directory = Arrays.copyOf(directory, chunk * 2);
+        }
+        if (directory[chunk] == null) {
+            directory[chunk] = new String[CHUNK];
+        }
+        directory[chunk][index & (CHUNK - 1)] = e;
+        chunks = directory;
+        size = index + 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Snapshot snapshot() {
+        int n = size; // lu avant le répertoire : le répertoire lu contient au moins n éléments
+        return new Snapshot(chunks, n);
+    }
+
+    // Parcours de l'instantané pris à la création de l'itérateur
+    @Override
+    public Iterator<String> iterator() {
+        return snapshot().iterator();
+    }
+
+    public Iterator<String> reverseIterator() {
+        return snapshot().reverseIterator();
+    }
+
+    // Vue figée : ses éléments ne changent plus, quels que soient les ajouts suivants
+    public static final class Snapshot implements Iterable<String> {
+        private final String[][] chunks;
+        private final int size;
+
+        private Snapshot(String[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return chunks[index >>> CHUNK_BITS][index & (CHUNK - 1)];
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new ForwardIterator();
+        }
+
+        public Iterator<String> reverseIterator() {
+            return new ReverseIterator();
+        }
+
+        private class ForwardIterator implements Iterator<String> {
+            private int index = 0;
+            public boolean hasNext() { return index < size; }
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int i = index++;
+                return chunks[i >>> CHUNK_BITS][i & (CHUNK - 1)];
+            }
+        }
+
+        private class ReverseIterator implements Iterator<String> {
+            private int index = size - 1;
+            public boolean hasNext() { return index >= 0; }
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int i = index--;
+                return chunks[i >>> CHUNK_BITS][i & (CHUNK - 1)];
+            }
+        }
+    }
+}
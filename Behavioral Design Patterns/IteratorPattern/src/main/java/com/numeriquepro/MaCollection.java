@@ -1,15 +1,29 @@
 package com.numeriquepro;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class MaCollection implements Iterable<String> {
-    private final List<String> elements = new ArrayList<>();
+    private String[] elements = new String[16];
+    private int size;
+    private int modCount;
 
     public void add(String e) {
-        elements.add(e);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = e;
+        modCount++;
+    }
+
+    public int size() {
+        return size;
     }
 
     @Override
@@ -21,21 +35,128 @@ public class MaCollection implements Iterable<String> {
         return new ReverseIterator();
     }
 
+    // Découpage par moitiés du tableau : taille exacte connue à chaque niveau (SIZED, SUBSIZED).
+    // Le spliterator couvre les éléments présents au moment de l'appel.
+    @Override
+    public Spliterator<String> spliterator() {
+        return new ArraySpliterator(elements, 0, size, false);
+    }
+
+    public Spliterator<String> reverseSpliterator() {
+        return new ArraySpliterator(elements, 0, size, true);
+    }
+
+    public Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<String> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    public Stream<String> reverseStream() {
+        return StreamSupport.stream(reverseSpliterator(), false);
+    }
+
+    // Fail-fast : un add() pendant le parcours fait échouer l'itérateur au lieu de sauter
+    // ou répéter des éléments. Pour lire pendant des ajouts, voir ConcurrentMaCollection.
     private class ForwardIterator implements Iterator<String> {
         private int index = 0;
-        public boolean hasNext() { return index < elements.size(); }
+        private final int expectedModCount = modCount;
+        public boolean hasNext() {
+            checkForComodification(expectedModCount);
+            return index < size;
+        }
         public String next() {
             if (!hasNext()) throw new NoSuchElementException();
-            return elements.get(index++);
+            return elements[index++];
         }
     }
 
     private class ReverseIterator implements Iterator<String> {
-        private int index = elements.size() - 1;
-        public boolean hasNext() { return index >= 0; }
+        private int index = size - 1;
+        private final int expectedModCount = modCount;
+        public boolean hasNext() {
+            checkForComodification(expectedModCount);
+            return index >= 0;
+        }
         public String next() {
             if (!hasNext()) throw new NoSuchElementException();
-            return elements.get(index--);
+            return elements[index--];
+        }
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    // Parcourt [origin, fence) du tableau, dans un sens ou dans l'autre.
+    // En sens inverse, trySplit() rend la moitié haute : ce sont les premiers éléments rencontrés.
+    private static final class ArraySpliterator implements Spliterator<String> {
+        private final String[] array;
+        private int origin;
+        private int fence;
+        private final boolean reverse;
+
+        private ArraySpliterator(String[] array, int origin, int fence, boolean reverse) {
+            this.array = array;
+            this.origin = origin;
+            this.fence = fence;
+            this.reverse = reverse;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (origin >= fence) {
+                return false;
+            }
+            action.accept(reverse ? array[--fence] : array[origin++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super String> action) {
+            String[] a = array;
+            int lo = origin;
+            int hi = fence;
+            origin = fence;
+            if (reverse) {
+                for (int i = hi - 1; i >= lo; i--) {
+                    action.accept(a[i]);
+                }
+            } else {
+                for (int i = lo; i < hi; i++) {
+                    action.accept(a[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            int lo = origin;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            if (reverse) {
+                ArraySpliterator prefix = new ArraySpliterator(array, mid, fence, true);
+                fence = mid;
+                return prefix;
+            }
+            origin = mid;
+            return new ArraySpliterator(array, lo, mid, false);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
         }
     }
-}
\ No newline at end of file
+}
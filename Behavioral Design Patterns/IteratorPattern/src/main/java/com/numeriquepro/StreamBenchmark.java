@@ -0,0 +1,56 @@
+package com.numeriquepro;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Somme d'un hachage par élément sur 10 millions de chaînes : stream construit sur l'itérateur
+// (taille inconnue, découpage par paquets) contre le spliterator de MaCollection, en séquentiel
+// et en parallèle.
+// Lancement : java -cp target/classes com.numeriquepro.StreamBenchmark [éléments]
+public class StreamBenchmark {
+    static volatile long blackhole;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        MaCollection collection = new MaCollection();
+        for (int i = 0; i < count; i++) {
+            collection.add("element-" + i);
+        }
+        System.out.printf("%,d éléments, %d cœur(s)%n", count, Runtime.getRuntime().availableProcessors());
+
+        Supplier<Stream<String>> fromIterator = () -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(collection.iterator(), Spliterator.ORDERED), false);
+        Supplier<Stream<String>> fromIteratorParallel = () -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(collection.iterator(), Spliterator.ORDERED), true);
+
+        for (int round = 0; round < 5; round++) {
+            System.out.println("--- tour " + (round + 1));
+            long sequential = measure("itérateur, séquentiel", fromIterator);
+            measure("itérateur, parallèle", fromIteratorParallel);
+            long split = measure("spliterator, séquentiel", collection::stream);
+            long parallel = measure("spliterator, parallèle", collection::parallelStream);
+            System.out.printf("accélération parallèle : x%.2f (x%.2f contre l'itérateur séquentiel)%n",
+                    (double) split / parallel, (double) sequential / parallel);
+        }
+    }
+
+    private static long measure(String name, Supplier<Stream<String>> stream) {
+        long start = System.nanoTime();
+        blackhole = stream.get().mapToLong(StreamBenchmark::hash).sum();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-24s : %7.1f ms%n", name, elapsed / 1e6);
+        return elapsed;
+    }
+
+    // Travail par élément, sans profiter du hashCode() mis en cache par String
+    private static long hash(String s) {
+        long h = 1125899906842597L;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h;
+    }
+}
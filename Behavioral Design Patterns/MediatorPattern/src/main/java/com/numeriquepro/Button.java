@@ -7,6 +7,6 @@ class Button extends Component {
 
     public void click() {
         System.out.println("Bouton cliqué !");
-        mediator.notify(this, "click");
+        mediator.notify(this, EventType.CLICK);
     }
 }
@@ -2,6 +2,9 @@ package com.numeriquepro;
 
 abstract class Component {
     protected Mediator mediator;
+    // Indice dans la table du dernier RoutingMediator où le composant a été enregistré comme émetteur
+    volatile RoutingMediator.Route route;
+
     public Component(Mediator mediator) {
         this.mediator = mediator;
     }
@@ -12,8 +12,8 @@ class DialogMediator implements Mediator {
     }
 
     @Override
-    public void notify(Component sender, String event) {
-        if (sender == button && "click".equals(event)) {
+    public void notify(Component sender, EventType event) {
+        if (sender == button && event == EventType.CLICK) {
             listBox.update();
             textBox.clear();
         }
@@ -0,0 +1,172 @@
+package com.numeriquepro;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+// Anneau borné à un seul écrivain et un seul lecteur : pas de CAS, chacun avance seul son
+// compteur et le publie, l'autre ne fait que le lire. L'écrivain est le premier thread qui
+// publie ; tout autre thread est refusé (IllegalStateException) au lieu de corrompre l'anneau.
+// Le lecteur est un thread dédié qui passe chaque événement au consommateur, dans l'ordre.
+// Une réaction qui publie à son tour (cascade) s'exécute sur le lecteur : son événement va dans
+// une file locale au lecteur, traitée juste après la réaction, avant l'événement suivant de l'anneau.
+final class EventRing implements AutoCloseable {
+    private static final int SPINS = 100;
+
+    private final Component[] senders;
+    private final EventType[] events;
+    private final int mask;
+    private final BiConsumer<Component, EventType> consumer;
+    private final Thread reader;
+    private final AtomicReference<Thread> writer = new AtomicReference<>();
+
+    private final AtomicLong tail = new AtomicLong(); // écrit par l'écrivain seulement
+    private final AtomicLong head = new AtomicLong(); // écrit par le lecteur seulement
+    private long knownHead; // copie locale de head côté écrivain, relue seulement quand l'anneau semble plein
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    private final ArrayDeque<Cascade> cascades = new ArrayDeque<>(); // lecteur seulement
+
+    private volatile long failed;     // écrit par le lecteur seulement
+    private volatile long fullWaits;  // écrit par l'écrivain seulement
+    private volatile int maxDepth;    // écrit par le lecteur seulement
+    private volatile long cascaded;   // écrit par le lecteur seulement
+
+    EventRing(int capacity, BiConsumer<Component, EventType> consumer) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacité doit être une puissance de 2 : " + capacity);
+        }
+        senders = new Component[capacity];
+        events = new EventType[capacity];
+        mask = capacity - 1;
+        this.consumer = consumer;
+        reader = new Thread(this::consume, "mediator-dispatch");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    // Ne bloque que si l'anneau est plein : attend alors que le lecteur libère une case
+    void publish(Component sender, EventType event) {
+        Thread current = Thread.currentThread();
+        if (current == reader) {
+            cascades.add(new Cascade(sender, event));
+            return;
+        }
+        if (writer.get() != current && !writer.compareAndSet(null, current)) {
+            throw new IllegalStateException("Un seul thread peut publier : " + writer.get().getName());
+        }
+        if (closed) {
+            throw new IllegalStateException("Médiateur fermé");
+        }
+        long position = tail.getPlain();
+        if (position - knownHead > mask) {
+            knownHead = head.get();
+            if (position - knownHead > mask) {
+                fullWaits++;
+                do {
+                    LockSupport.unpark(reader);
+                    LockSupport.parkNanos(1_000);
+                    knownHead = head.get();
+                } while (position - knownHead > mask);
+            }
+        }
+        int slot = (int) position & mask;
+        senders[slot] = sender;
+        events[slot] = event;
+        tail.set(position + 1); // écriture volatile : ordonnée avant la lecture de sleeping
+        if (sleeping) {
+            LockSupport.unpark(reader);
+        }
+    }
+
+    private void consume() {
+        int idle = 0;
+        while (true) {
+            long position = head.getPlain();
+            long end = tail.get();
+            if (position < end) {
+                int depth = (int) (end - position);
+                if (depth > maxDepth) {
+                    maxDepth = depth;
+                }
+                for (; position < end; position++) {
+                    int slot = (int) position & mask;
+                    Component sender = senders[slot];
+                    EventType event = events[slot];
+                    senders[slot] = null;
+                    head.setRelease(position + 1); // case rendue à l'écrivain dès qu'elle est lue
+                    deliver(sender, event);
+                    Cascade cascade;
+                    while ((cascade = cascades.poll()) != null) {
+                        cascaded++;
+                        deliver(cascade.sender, cascade.event);
+                    }
+                }
+                idle = 0;
+                continue;
+            }
+            if (closed && tail.get() == position) {
+                return;
+            }
+            if (++idle < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            sleeping = true;
+            if (tail.get() == position && !closed) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+        }
+    }
+
+    private void deliver(Component sender, EventType event) {
+        try {
+            consumer.accept(sender, event);
+        } catch (Throwable e) {
+            failed++;
+        }
+    }
+
+    long published() {
+        return tail.get();
+    }
+
+    long dispatched() {
+        return head.get();
+    }
+
+    long failed() {
+        return failed;
+    }
+
+    long fullWaits() {
+        return fullWaits;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    long cascaded() {
+        return cascaded;
+    }
+
+    // Attend que les événements déjà publiés soient traités. Les publications concurrentes
+    // de close() peuvent être perdues : fermer depuis l'écrivain, ou une fois qu'il a terminé.
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(reader);
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Cascade(Component sender, EventType event) {
+    }
+}
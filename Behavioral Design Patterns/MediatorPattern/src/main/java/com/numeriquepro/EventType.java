@@ -0,0 +1,7 @@
+package com.numeriquepro;
+
+// Types d'événements connus du médiateur : comparés par identité et rangés par ordinal
+// dans la table de routage, au lieu de chaînes comparées caractère par caractère.
+enum EventType {
+    CLICK, CHANGE, SELECT, FOCUS
+}
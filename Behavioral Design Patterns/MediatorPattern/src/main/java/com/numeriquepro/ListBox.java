@@ -8,4 +8,9 @@ class ListBox extends Component {
     public void update() {
         System.out.println("ListBox mise à jour");
     }
+
+    public void select() {
+        System.out.println("Élément sélectionné dans la ListBox");
+        mediator.notify(this, EventType.SELECT);
+    }
 }
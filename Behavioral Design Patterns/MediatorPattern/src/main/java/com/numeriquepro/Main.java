@@ -17,5 +17,17 @@ public class Main {
 
         // Simulation : clic sur le bouton
         button.click();
+
+        // Même coordination avec une table de routage, réactions sur un thread dédié
+        try (RoutingMediator router = new RoutingMediator(1024)) {
+            router.on(button, EventType.CLICK, (sender, event) -> listBox.update());
+            // Cascade : la réaction au clic sélectionne un élément, et la sélection vide le champ
+            router.on(button, EventType.CLICK, (sender, event) -> listBox.select());
+            router.on(listBox, EventType.SELECT, (sender, event) -> textBox.clear());
+            button.mediator = router;
+            textBox.mediator = router;
+            listBox.mediator = router;
+            button.click();
+        }
     }
-}
\ No newline at end of file
+}
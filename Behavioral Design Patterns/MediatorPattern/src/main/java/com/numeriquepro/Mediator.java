@@ -1,6 +1,5 @@
 package com.numeriquepro;
 
 interface Mediator {
-    void notify(Component sender, String event);
+    void notify(Component sender, EventType event);
 }
-
@@ -0,0 +1,189 @@
+package com.numeriquepro;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// Coût d'un notify() avec des centaines de composants :
+// - débit : chaîne de tests (émetteur, nom d'événement) comme dans DialogMediator, contre
+//   RoutingMediator synchrone et asynchrone, en ns par événement ;
+// - latence : réactions lentes (2 µs), p50/p99 du temps passé dans notify() côté émetteur,
+//   et en asynchrone du délai entre l'envoi et le début de la réaction.
+// Lancement : java -cp target/classes com.numeriquepro.MediatorDispatchBenchmark [composants] [événements]
+public class MediatorDispatchBenchmark {
+    private static final EventType[] TYPES = EventType.values();
+    private static final long SLOW_NANOS = 2_000;
+    private static final long PACE_NANOS = 10_000;
+    private static final int LATENCY_EVENTS = 20_000;
+
+    static volatile long blackhole;
+
+    public static void main(String[] args) {
+        int components = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        Widget[] widgets = new Widget[components];
+        for (int i = 0; i < components; i++) {
+            widgets[i] = new Widget();
+        }
+        // Émetteurs et types tirés au hasard ; CLICK et CHANGE sont routés, SELECT et FOCUS non
+        Random random = new Random(42);
+        Widget[] senders = new Widget[count];
+        EventType[] events = new EventType[count];
+        for (int i = 0; i < count; i++) {
+            senders[i] = widgets[random.nextInt(components)];
+            events[i] = TYPES[random.nextInt(TYPES.length)];
+        }
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            long[] counts = new long[components];
+            throughput("chaîne de tests", count, () -> {
+                StringChain chain = new StringChain();
+                register(widgets, counts, chain::on);
+                String[] names = new String[TYPES.length];
+                for (EventType type : TYPES) {
+                    names[type.ordinal()] = type.name().toLowerCase(Locale.ROOT);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    chain.notify(senders[i], names[events[i].ordinal()]);
+                }
+                return System.nanoTime() - start;
+            });
+            throughput("routage synchrone", count, () -> {
+                RoutingMediator router = new RoutingMediator();
+                register(widgets, counts, router::on);
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    router.notify(senders[i], events[i]);
+                }
+                return System.nanoTime() - start;
+            });
+            asyncThroughput(widgets, counts, senders, events);
+            blackhole = Arrays.stream(counts).sum();
+
+            latency(widgets, false);
+            latency(widgets, true);
+        }
+    }
+
+    private static void register(Widget[] widgets, long[] counts, Registry registry) {
+        int n = widgets.length;
+        for (int i = 0; i < n; i++) {
+            int click = (i + 1) % n;
+            int change = (i + 7) % n;
+            registry.on(widgets[i], EventType.CLICK, (sender, event) -> counts[click]++);
+            registry.on(widgets[i], EventType.CHANGE, (sender, event) -> counts[change]++);
+        }
+    }
+
+    private static void throughput(String name, int count, Run run) {
+        long elapsed = run.nanos();
+        System.out.printf("%-24s : %8.1f ns/événement%n", name, (double) elapsed / count);
+    }
+
+    // Émission : temps rendu à l'émetteur ; bout en bout : jusqu'à la fin de la dernière réaction
+    private static void asyncThroughput(Widget[] widgets, long[] counts, Widget[] senders, EventType[] events) {
+        int count = senders.length;
+        RoutingMediator router = new RoutingMediator(1 << 16);
+        register(widgets, counts, router::on);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            router.notify(senders[i], events[i]);
+        }
+        long emitted = System.nanoTime() - start;
+        router.close();
+        long drained = System.nanoTime() - start;
+        RoutingMediator.Stats stats = router.stats();
+        System.out.printf("%-24s : %8.1f ns/événement à l'émission, %8.1f de bout en bout, "
+                        + "%,d attentes anneau plein, profondeur max %,d%n",
+                "routage asynchrone", (double) emitted / count, (double) drained / count,
+                stats.fullWaits(), stats.maxDepth());
+    }
+
+    // Un événement toutes les 10 µs, réaction de 2 µs : l'anneau ne se remplit pas
+    private static void latency(Widget[] widgets, boolean async) {
+        long[] sentAt = new long[LATENCY_EVENTS];
+        long[] delays = new long[LATENCY_EVENTS];
+        long[] calls = new long[LATENCY_EVENTS];
+        int[] received = new int[1]; // lu et écrit par le seul thread des réactions
+        RoutingMediator router = async ? new RoutingMediator(1 << 15) : new RoutingMediator();
+        for (Widget widget : widgets) {
+            router.on(widget, EventType.CLICK, (sender, event) -> {
+                long now = System.nanoTime();
+                int index = received[0]++;
+                delays[index] = now - sentAt[index];
+                while (System.nanoTime() - now < SLOW_NANOS) {
+                    Thread.onSpinWait();
+                }
+            });
+        }
+        long next = System.nanoTime();
+        for (int i = 0; i < LATENCY_EVENTS; i++) {
+            while (System.nanoTime() < next) {
+                Thread.onSpinWait();
+            }
+            next += PACE_NANOS;
+            Widget sender = widgets[i % widgets.length];
+            long start = System.nanoTime();
+            sentAt[i] = start;
+            router.notify(sender, EventType.CLICK);
+            calls[i] = System.nanoTime() - start;
+        }
+        router.close();
+        Arrays.sort(calls);
+        Arrays.sort(delays);
+        if (async) {
+            System.out.printf("%-24s : notify() p50 %,7d ns, p99 %,7d ns ; début de réaction p50 %,7d ns, p99 %,7d ns%n",
+                    "réactions lentes, async", percentile(calls, 0.50), percentile(calls, 0.99),
+                    percentile(delays, 0.50), percentile(delays, 0.99));
+        } else {
+            System.out.printf("%-24s : notify() p50 %,7d ns, p99 %,7d ns%n",
+                    "réactions lentes, sync", percentile(calls, 0.50), percentile(calls, 0.99));
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        long nanos();
+    }
+
+    @FunctionalInterface
+    private interface Registry {
+        void on(Component sender, EventType event, RoutingMediator.Handler handler);
+    }
+
+    private static final class Widget extends Component {
+        private Widget() {
+            super(null);
+        }
+    }
+
+    // Médiateur à l'ancienne, généralisé : une règle par (émetteur, nom d'événement), testées
+    // l'une après l'autre comme une suite de if, avec comparaison des noms par equals()
+    private static final class StringChain {
+        private final List<Rule> rules = new ArrayList<>();
+
+        void on(Component sender, EventType event, RoutingMediator.Handler handler) {
+            rules.add(new Rule(sender, event.name().toLowerCase(Locale.ROOT), event, handler));
+        }
+
+        void notify(Component sender, String event) {
+            for (Rule rule : rules) {
+                if (rule.sender == sender && rule.name.equals(event)) {
+                    rule.handler.handle(sender, rule.type);
+                }
+            }
+        }
+
+        private record Rule(Component sender, String name, EventType type, RoutingMediator.Handler handler) {
+        }
+    }
+}
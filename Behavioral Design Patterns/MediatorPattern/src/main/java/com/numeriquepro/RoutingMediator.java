@@ -0,0 +1,128 @@
+package com.numeriquepro;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+// Médiateur à table de routage : les réactions sont enregistrées à l'avance pour un couple
+// (émetteur, type d'événement). notify() ne compare ni chaînes ni émetteurs : il lit la case
+// indice * EVENTS + ordinal d'un tableau, quel que soit le nombre de composants.
+// Les indices sont attribués par médiateur, dans l'ordre d'enregistrement des émetteurs : la
+// table ne dépend que des composants de ce médiateur. Elle est recopiée à chaque enregistrement
+// (rare) et lue sans verrou.
+// En mode asynchrone, notify() dépose seulement l'événement dans un EventRing : les réactions
+// s'exécutent sur un thread dédié, dans l'ordre d'envoi, et un composant lent ne bloque plus
+// l'émetteur. Un seul thread (celui de l'interface) doit alors appeler notify() ; une réaction
+// peut aussi notifier, l'événement suivant est alors traité juste après elle.
+class RoutingMediator implements Mediator, AutoCloseable {
+    private static final int EVENTS = EventType.values().length;
+
+    private volatile Table table = new Table(new Handler[0][], new IdentityHashMap<>());
+    private final EventRing ring; // null : réactions exécutées directement dans notify()
+
+    public RoutingMediator() {
+        this.ring = null;
+    }
+
+    // capacity : taille de l'anneau, puissance de 2
+    public RoutingMediator(int capacity) {
+        this.ring = new EventRing(capacity, this::dispatch);
+    }
+
+    public synchronized void on(Component sender, EventType event, Handler handler) {
+        Table current = table;
+        IdentityHashMap<Component, Integer> indexes = current.indexes;
+        Integer index = indexes.get(sender);
+        if (index == null) {
+            index = indexes.size();
+            indexes = new IdentityHashMap<>(indexes);
+            indexes.put(sender, index);
+        }
+        int slot = index * EVENTS + event.ordinal();
+        Handler[][] routes = current.routes;
+        routes = slot < routes.length
+                ? routes.clone()
+                : Arrays.copyOf(routes, Math.max(slot + 1, 2 * routes.length));
+        Handler[] handlers = routes[slot] == null ? new Handler[0] : routes[slot];
+        handlers = Arrays.copyOf(handlers, handlers.length + 1);
+        handlers[handlers.length - 1] = handler;
+        routes[slot] = handlers;
+        table = new Table(routes, indexes);
+        // Après la table : qui voit cette route voit aussi la table qui la contient
+        if (sender.route == null || sender.route.router != this) {
+            sender.route = new Route(this, index);
+        }
+    }
+
+    @Override
+    public void notify(Component sender, EventType event) {
+        if (ring != null) {
+            ring.publish(sender, event);
+        } else {
+            dispatch(sender, event);
+        }
+    }
+
+    private void dispatch(Component sender, EventType event) {
+        Route route = sender.route; // lue avant la table
+        Table current = table;
+        int index;
+        if (route != null && route.router == this) {
+            index = route.index;
+        } else {
+            // Composant enregistré depuis dans un autre médiateur, ou jamais enregistré ici
+            Integer found = current.indexes.get(sender);
+            if (found == null) {
+                return;
+            }
+            index = found;
+        }
+        Handler[][] routes = current.routes;
+        int slot = index * EVENTS + event.ordinal();
+        if (slot < routes.length && routes[slot] != null) {
+            for (Handler handler : routes[slot]) {
+                handler.handle(sender, event);
+            }
+        }
+    }
+
+    public boolean isAsync() {
+        return ring != null;
+    }
+
+    // Zéros en mode synchrone
+    public Stats stats() {
+        if (ring == null) {
+            return new Stats(0, 0, 0, 0, 0, 0);
+        }
+        return new Stats(ring.published(), ring.dispatched(), ring.failed(), ring.fullWaits(), ring.maxDepth(),
+                ring.cascaded());
+    }
+
+    // Attend la fin des réactions déjà publiées
+    @Override
+    public void close() {
+        if (ring != null) {
+            ring.close();
+        }
+    }
+
+    @FunctionalInterface
+    interface Handler {
+        void handle(Component sender, EventType event);
+    }
+
+    // Indice d'un composant dans la table d'un médiateur, gardé sur le composant pour éviter
+    // la recherche dans indexes à chaque notify()
+    record Route(RoutingMediator router, int index) {
+    }
+
+    // Jamais modifiée une fois publiée
+    private record Table(Handler[][] routes, IdentityHashMap<Component, Integer> indexes) {
+    }
+
+    // failed : réactions en exception (ignorées en mode asynchrone, l'émetteur étant déjà reparti)
+    // fullWaits : publications qui ont dû attendre une case libre
+    // cascaded : événements envoyés par une réaction, traités hors de l'anneau
+    public record Stats(long published, long dispatched, long failed, long fullWaits, int maxDepth, long cascaded) {
+    }
+}
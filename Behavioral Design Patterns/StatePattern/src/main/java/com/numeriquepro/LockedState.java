@@ -1,19 +1,17 @@
 package com.numeriquepro;
 
 public class LockedState extends State {
-    public LockedState(Phone phone) {
-        super(phone);
-    }
+    public static final LockedState INSTANCE = new LockedState();
+
+    private LockedState() {}
 
     @Override
-    public String onHome() {
-        phone.setState(new ReadyState(phone));
-        return null;
+    public boolean onHome(Phone phone) {
+        return phone.changeState(this, ReadyState.INSTANCE);
     }
 
     @Override
-    public String onOffOn() {
-        phone.setState(new OffState(phone));
-        return null;
+    public boolean onOffOn(Phone phone) {
+        return phone.changeState(this, OffState.INSTANCE);
     }
 }
@@ -1,19 +1,17 @@
 package com.numeriquepro;
 
 public class OffState extends State {
-    public OffState(Phone phone) {
-        super(phone);
-    }
+    public static final OffState INSTANCE = new OffState();
+
+    private OffState() {}
 
     @Override
-    public String onHome() {
-        phone.setState(new LockedState(phone));
-        return null; // dans la vidéo, on enchaîne surtout les transitions
+    public boolean onHome(Phone phone) {
+        return phone.changeState(this, LockedState.INSTANCE); // dans la vidéo, on enchaîne surtout les transitions
     }
 
     @Override
-    public String onOffOn() {
-        phone.setState(new LockedState(phone));
-        return null;
+    public boolean onOffOn(Phone phone) {
+        return phone.changeState(this, LockedState.INSTANCE);
     }
 }
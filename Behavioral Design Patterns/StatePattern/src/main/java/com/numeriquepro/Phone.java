@@ -1,22 +1,88 @@
 package com.numeriquepro;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Les boutons peuvent être pressés depuis plusieurs threads : chaque transition est un
+// compareAndSet, rejoué si un autre thread est passé avant (pas de verrou).
+// Le CAS porte sur un mot long qui réunit l'identifiant de l'état et une version incrémentée
+// à chaque changement : un aller-retour Off -> Locked -> Off entre la lecture et le CAS le fait
+// échouer (pas d'ABA), et chaque transition journalisée porte la version qu'elle a gagnée.
 public class Phone {
-    private State state;
+    private static final VarHandle WORD;
+    private static final long ID_MASK = (1L << State.ID_BITS) - 1;
+
+    static {
+        try {
+            WORD = MethodHandles.lookup().findVarHandle(Phone.class, "word", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // version << ID_BITS | id de l'état
+    private volatile long word;
+    private final TransitionLog log;
 
     public Phone() {
-        state = new OffState(this);
+        this(null);
+    }
+
+    // log (peut être null) reçoit chaque transition réussie
+    public Phone(TransitionLog log) {
+        this.log = log;
+        word = OffState.INSTANCE.id;
+    }
+
+    public State getState() {
+        return State.byId((int) (word & ID_MASK));
+    }
+
+    // Nombre de changements d'état depuis la création
+    public long getVersion() {
+        return word >>> State.ID_BITS;
     }
 
+    // Remplace l'état sans condition ni journal (initialisation, restauration)
     public void setState(State state) {
-        this.state = state;
+        long current;
+        do {
+            current = word;
+        } while (!WORD.compareAndSet(this, current, next(current, state)));
+    }
+
+    // Transition atomique : n'a lieu que si l'état courant est toujours from.
+    // La séquence du journal n'est prise qu'après le CAS gagné : deux transitions d'un même
+    // téléphone peuvent y apparaître dans le désordre, la version donne l'ordre réel.
+    public boolean changeState(State from, State to) {
+        long current = word;
+        if ((current & ID_MASK) != from.id) {
+            return false;
+        }
+        long next = next(current, to);
+        if (!WORD.compareAndSet(this, current, next)) {
+            return false;
+        }
+        if (log != null) {
+            log.append(this, next >>> State.ID_BITS, from, to);
+        }
+        return true;
+    }
+
+    private static long next(long current, State state) {
+        return ((current >>> State.ID_BITS) + 1) << State.ID_BITS | state.id;
     }
 
     public void pressPower(){
-         state.onOffOn();
+        while (!getState().onOffOn(this)) {
+            Thread.onSpinWait();
+        }
     }
 
     public void pressHome(){
-        state.onHome();
+        while (!getState().onHome(this)) {
+            Thread.onSpinWait();
+        }
     }
 
     public String lock() {
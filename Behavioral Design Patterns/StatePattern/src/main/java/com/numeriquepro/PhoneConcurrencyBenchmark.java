@@ -0,0 +1,82 @@
+package com.numeriquepro;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+// Transitions/s avec plusieurs threads qui appuient sur les boutons, sans puis avec journal :
+// tous les threads sur le même téléphone (conflits de CAS), puis chacun sur ses téléphones.
+// Après chaque passage avec journal, le rejeu doit redonner l'état réel de chaque téléphone.
+// Lancement : java -cp target/classes com.numeriquepro.PhoneConcurrencyBenchmark [threads] [appuis par thread]
+public class PhoneConcurrencyBenchmark {
+    private static final int PHONES_PER_THREAD = 1024;
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Math.max(4, Runtime.getRuntime().availableProcessors());
+        int presses = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        if (Runtime.getRuntime().availableProcessors() == 1) {
+            System.out.println("Attention : un seul cœur disponible, les conflits de CAS seront rares");
+        }
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            for (boolean logged : new boolean[]{false, true}) {
+                run("même téléphone", threads, presses, logged, 1, false);
+                run("téléphones distincts", threads, presses, logged, PHONES_PER_THREAD, true);
+            }
+        }
+    }
+
+    private static void run(String name, int threads, int presses, boolean logged, int phonesPerThread,
+                            boolean distinct) throws InterruptedException {
+        TransitionLog log = logged ? new TransitionLog(1 << 20) : null;
+        Phone[] phones = new Phone[distinct ? threads * phonesPerThread : phonesPerThread];
+        for (int i = 0; i < phones.length; i++) {
+            phones[i] = new Phone(log);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = distinct ? t * phonesPerThread : 0;
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < presses; i++) {
+                    Phone phone = phones[offset + (i % phonesPerThread)];
+                    // alimentation, accueil, accueil, alimentation
+                    int step = (i / phonesPerThread + seed) & 3;
+                    if (step == 0 || step == 3) {
+                        phone.pressPower();
+                    } else {
+                        phone.pressHome();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        String check = "";
+        if (log != null) {
+            Map<Phone, State> replayed = log.replay();
+            boolean same = true;
+            for (Phone phone : phones) {
+                State last = replayed.get(phone);
+                same &= last == null || last == phone.getState();
+            }
+            check = same ? ", rejeu identique" : ", rejeu DIFFÉRENT";
+        }
+        System.out.printf("%-21s %-12s : %,14.0f appuis/s%s%n", name, logged ? "avec journal" : "sans journal",
+                (double) threads * presses / (elapsed / 1e9), check);
+    }
+}
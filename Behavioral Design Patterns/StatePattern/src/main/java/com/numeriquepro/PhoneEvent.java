@@ -0,0 +1,19 @@
+package com.numeriquepro;
+
+// Les deux boutons du téléphone, sous forme d'événements
+public enum PhoneEvent {
+    HOME {
+        @Override
+        public void applyTo(Phone phone) {
+            phone.pressHome();
+        }
+    },
+    POWER {
+        @Override
+        public void applyTo(Phone phone) {
+            phone.pressPower();
+        }
+    };
+
+    public abstract void applyTo(Phone phone);
+}
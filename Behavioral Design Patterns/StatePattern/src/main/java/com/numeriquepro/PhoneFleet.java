@@ -0,0 +1,111 @@
+package com.numeriquepro;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Flotte de téléphones sans objet par appareil : l'état de chaque téléphone est un octet
+// (numéro d'état de la PhoneStateMachine). Les lots d'événements sont appliqués en parallèle
+// dans le ForkJoinPool, par tranches d'appareils contiguës.
+public class PhoneFleet {
+    private static final int SLICE = 1 << 16;
+
+    private final PhoneStateMachine machine;
+    private final ForkJoinPool pool;
+    private final byte[] states;
+
+    public PhoneFleet(PhoneStateMachine machine, int devices) {
+        this(machine, devices, ForkJoinPool.commonPool());
+    }
+
+    public PhoneFleet(PhoneStateMachine machine, int devices, ForkJoinPool pool) {
+        this.machine = machine;
+        this.pool = pool;
+        this.states = new byte[devices]; // 0 = état initial
+    }
+
+    public int size() {
+        return states.length;
+    }
+
+    public State state(int device) {
+        return machine.state(states[device]);
+    }
+
+    public void setState(int device, State state) {
+        states[device] = (byte) machine.idOf(state);
+    }
+
+    // Le même événement pour tous les appareils
+    public void apply(PhoneEvent event) {
+        byte[] column = machine.column(event);
+        run((from, to) -> {
+            for (int i = from; i < to; i++) {
+                states[i] = column[states[i]];
+            }
+        });
+    }
+
+    // events[i] est le code de l'événement (PhoneEvent.ordinal()) pour l'appareil i,
+    // ou PhoneStateMachine.NO_EVENT pour ne rien faire.
+    // Les codes sont vérifiés avant toute modification : un code invalide laisse la flotte intacte.
+    public void apply(byte[] events) {
+        if (events.length != states.length) {
+            throw new IllegalArgumentException("Lot de " + events.length + " événements pour "
+                    + states.length + " appareils");
+        }
+        for (int i = 0; i < events.length; i++) {
+            if (events[i] < 0 || events[i] > PhoneStateMachine.NO_EVENT) {
+                throw new IllegalArgumentException("Code d'événement " + events[i] + " invalide pour l'appareil " + i);
+            }
+        }
+        byte[] table = machine.table();
+        int bits = PhoneStateMachine.EVENT_BITS;
+        run((from, to) -> {
+            for (int i = from; i < to; i++) {
+                states[i] = table[(states[i] << bits) | events[i]];
+            }
+        });
+    }
+
+    // Nombre d'appareils par état, indexé par numéro d'état
+    public long[] counts() {
+        long[] counts = new long[machine.stateCount()];
+        for (byte state : states) {
+            counts[state]++;
+        }
+        return counts;
+    }
+
+    private void run(Slice slice) {
+        pool.invoke(new SliceTask(slice, 0, states.length));
+    }
+
+    @FunctionalInterface
+    private interface Slice {
+        void apply(int from, int to);
+    }
+
+    private static final class SliceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Slice slice;
+        private final int from;
+        private final int to;
+
+        private SliceTask(Slice slice, int from, int to) {
+            this.slice = slice;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE) {
+                slice.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SliceTask(slice, from, middle), new SliceTask(slice, middle, to));
+        }
+    }
+}
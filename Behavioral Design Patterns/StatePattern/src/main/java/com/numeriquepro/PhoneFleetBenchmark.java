@@ -0,0 +1,84 @@
+package com.numeriquepro;
+
+import java.util.function.Supplier;
+
+// Mémoire par appareil et événements/s : un Phone par appareil contre PhoneFleet (un octet par appareil).
+// Lancement : java -cp target/classes com.numeriquepro.PhoneFleetBenchmark [appareils]
+public class PhoneFleetBenchmark {
+    static Object retained;
+
+    public static void main(String[] args) {
+        int devices = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        PhoneStateMachine machine = PhoneStateMachine.compile(OffState.INSTANCE);
+
+        Phone[] phones = measureHeap("Phone[]", devices, () -> {
+            Phone[] result = new Phone[devices];
+            for (int i = 0; i < devices; i++) {
+                result[i] = new Phone();
+            }
+            return result;
+        });
+        PhoneFleet fleet = measureHeap("PhoneFleet", devices, () -> new PhoneFleet(machine, devices));
+
+        // Lot mixte : un appareil sur quatre ne reçoit rien
+        byte[] events = new byte[devices];
+        PhoneEvent[] values = PhoneEvent.values();
+        for (int i = 0; i < devices; i++) {
+            events[i] = (i & 3) == 3 ? PhoneStateMachine.NO_EVENT : (byte) values[(i >>> 2) % values.length].ordinal();
+        }
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < devices; i++) {
+                if (events[i] != PhoneStateMachine.NO_EVENT) {
+                    values[events[i]].applyTo(phones[i]);
+                }
+            }
+            long objects = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            fleet.apply(events);
+            long batch = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            fleet.apply(PhoneEvent.POWER);
+            long broadcast = System.nanoTime() - start;
+
+            System.out.printf("Phone[] %,14.0f évén./s | PhoneFleet lot %,14.0f évén./s | diffusion %,14.0f évén./s (%s)%n",
+                    devices / (objects / 1e9), devices / (batch / 1e9), devices / (broadcast / 1e9),
+                    sameStates(phones, fleet, machine) ? "états identiques" : "ÉCART");
+            // ramène les objets au même point que la flotte après la diffusion
+            for (Phone phone : phones) {
+                phone.pressPower();
+            }
+        }
+    }
+
+    private static boolean sameStates(Phone[] phones, PhoneFleet fleet, PhoneStateMachine machine) {
+        for (int i = 0; i < phones.length; i++) {
+            // la flotte a déjà reçu la diffusion POWER : on la rejoue sur l'état objet
+            if (machine.next(machine.idOf(phones[i].getState()), PhoneEvent.POWER) != machine.idOf(fleet.state(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T measureHeap(String name, int devices, Supplier<T> build) {
+        long before = usedHeap();
+        T result = build.get();
+        retained = result;
+        long after = usedHeap();
+        System.out.printf("%-10s : %6.1f octets/appareil, %7.1f Mo%n", name,
+                (double) (after - before) / devices, (after - before) / 1e6);
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,110 @@
+package com.numeriquepro;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Machine à états "compilée" : les transitions des classes d'état sont rejouées une fois
+// sur un téléphone d'essai, puis rangées dans une table indexée par (état, événement).
+// Chaque état reçoit un numéro ; l'état initial a le numéro 0.
+// Les états doivent être sans donnée (instances partagées), comme OffState.INSTANCE.
+public final class PhoneStateMachine {
+    // Code d'événement "rien à faire" : la table y renvoie l'état courant
+    public static final byte NO_EVENT = (byte) PhoneEvent.values().length;
+
+    // Largeur d'une ligne de la table, puissance de 2 >= nombre d'événements + 1
+    static final int EVENT_BITS = 32 - Integer.numberOfLeadingZeros(NO_EVENT);
+    static final int MAX_STATES = Byte.MAX_VALUE + 1;
+
+    private final State[] states;
+    private final Map<State, Integer> ids;
+    private final byte[] table;
+
+    private PhoneStateMachine(State[] states, Map<State, Integer> ids, byte[] table) {
+        this.states = states;
+        this.ids = ids;
+        this.table = table;
+    }
+
+    public static PhoneStateMachine compile(State initial) {
+        List<State> states = new ArrayList<>();
+        Map<State, Integer> ids = new IdentityHashMap<>();
+        List<int[]> rows = new ArrayList<>();
+        Deque<State> pending = new ArrayDeque<>();
+        ids.put(initial, 0);
+        states.add(initial);
+        pending.add(initial);
+        Phone probe = new Phone();
+        PhoneEvent[] events = PhoneEvent.values();
+        while (!pending.isEmpty()) {
+            State state = pending.poll();
+            int[] row = new int[events.length];
+            for (PhoneEvent event : events) {
+                probe.setState(state);
+                event.applyTo(probe);
+                State next = probe.getState();
+                Integer id = ids.get(next);
+                if (id == null) {
+                    id = states.size();
+                    if (id == MAX_STATES) {
+                        throw new IllegalStateException("Trop d'états (max " + MAX_STATES + ")");
+                    }
+                    ids.put(next, id);
+                    states.add(next);
+                    pending.add(next);
+                }
+                row[event.ordinal()] = id;
+            }
+            rows.add(row);
+        }
+
+        byte[] table = new byte[states.size() << EVENT_BITS];
+        for (int state = 0; state < states.size(); state++) {
+            int base = state << EVENT_BITS;
+            // les colonnes au-delà des événements réels (dont NO_EVENT) laissent l'état inchangé
+            Arrays.fill(table, base, base + (1 << EVENT_BITS), (byte) state);
+            int[] row = rows.get(state);
+            for (int event = 0; event < row.length; event++) {
+                table[base + event] = (byte) row[event];
+            }
+        }
+        return new PhoneStateMachine(states.toArray(new State[0]), ids, table);
+    }
+
+    public int stateCount() {
+        return states.length;
+    }
+
+    public State state(int id) {
+        return states[id];
+    }
+
+    public int idOf(State state) {
+        Integer id = ids.get(state);
+        if (id == null) {
+            throw new IllegalArgumentException("État inconnu de la machine : " + state);
+        }
+        return id;
+    }
+
+    public int next(int state, PhoneEvent event) {
+        return table[(state << EVENT_BITS) | event.ordinal()];
+    }
+
+    // Colonne "état suivant" d'un événement, indexée par état
+    byte[] column(PhoneEvent event) {
+        byte[] column = new byte[states.length];
+        for (int state = 0; state < states.length; state++) {
+            column[state] = table[(state << EVENT_BITS) | event.ordinal()];
+        }
+        return column;
+    }
+
+    byte[] table() {
+        return table;
+    }
+}
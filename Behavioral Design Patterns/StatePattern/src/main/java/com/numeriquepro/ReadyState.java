@@ -1,19 +1,18 @@
 package com.numeriquepro;
 
 public class ReadyState extends State {
-    public ReadyState(Phone phone) {
-        super(phone);
-    }
+    public static final ReadyState INSTANCE = new ReadyState();
+
+    private ReadyState() {}
 
     @Override
-    public String onHome() {
+    public boolean onHome(Phone phone) {
         // reste en ReadyState (retour home)
-        return null;
+        return true;
     }
 
     @Override
-    public String onOffOn() {
-        phone.setState(new OffState(phone));
-        return null;
+    public boolean onOffOn(Phone phone) {
+        return phone.changeState(this, OffState.INSTANCE);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,38 @@
 package com.numeriquepro;
 
+import java.util.Arrays;
+
+// Les états ne gardent aucune donnée : une seule instance par état est partagée
+// par tous les téléphones, qui se passent eux-mêmes en paramètre.
+// Renvoie false si un autre thread a changé l'état entre-temps : le téléphone rejoue alors
+// l'événement sur le nouvel état.
 public abstract class State {
-    protected Phone phone;
+    static final int ID_BITS = 16;
+
+    private static volatile State[] registry = new State[0];
+
+    // Numéro de l'instance, rangé avec la version dans le mot d'état de Phone
+    final int id;
+
+    protected State() {
+        id = register(this);
+    }
+
+    private static synchronized int register(State state) {
+        State[] states = registry;
+        if (states.length == 1 << ID_BITS) {
+            throw new IllegalStateException("Trop d'instances d'état (max " + (1 << ID_BITS) + ")");
+        }
+        states = Arrays.copyOf(states, states.length + 1);
+        states[states.length - 1] = state;
+        registry = states;
+        return states.length - 1;
+    }
 
-    public State(Phone phone) {
-        this.phone = phone;
+    static State byId(int id) {
+        return registry[id];
     }
 
-    public abstract String onHome();
-    public abstract String onOffOn();
+    public abstract boolean onHome(Phone phone);
+    public abstract boolean onOffOn(Phone phone);
 }
@@ -0,0 +1,127 @@
+package com.numeriquepro;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+// Transitions sur une flotte de téléphones (opérations/s et octets par transition) :
+// états partagés (Phone) contre un état alloué à chaque transition (ancienne version).
+// Lancement : java -cp target/classes com.numeriquepro.StateTransitionBenchmark [téléphones] [tours]
+public class StateTransitionBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static volatile int blackhole;
+
+    public static void main(String[] args) {
+        int devices = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        Phone[] phones = new Phone[devices];
+        AllocatingPhone[] allocating = new AllocatingPhone[devices];
+        for (int i = 0; i < devices; i++) {
+            phones[i] = new Phone();
+            allocating[i] = new AllocatingPhone();
+        }
+
+        for (int round = 0; round < 5; round++) {
+            System.out.println("--- tour " + (round + 1));
+            measure("états partagés", devices, passes, pass -> {
+                for (int i = 0; i < devices; i++) {
+                    // alimentation, accueil, accueil, alimentation : Off -> Locked -> Ready -> Ready -> Off
+                    if (((pass + i) & 3) == 0 || ((pass + i) & 3) == 3) {
+                        phones[i].pressPower();
+                    } else {
+                        phones[i].pressHome();
+                    }
+                }
+            });
+            measure("état alloué", devices, passes, pass -> {
+                for (int i = 0; i < devices; i++) {
+                    if (((pass + i) & 3) == 0 || ((pass + i) & 3) == 3) {
+                        allocating[i].pressPower();
+                    } else {
+                        allocating[i].pressHome();
+                    }
+                }
+            });
+        }
+        blackhole = phones[devices - 1].getState().hashCode() + allocating[devices - 1].state.hashCode();
+    }
+
+    private static void measure(String name, int devices, int passes, IntConsumer pass) {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int p = 0; p < passes; p++) {
+            pass.accept(p);
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        double ops = (double) devices * passes;
+        System.out.printf("%-15s : %,14.0f transitions/s, %6.2f octets/transition%n",
+                name, ops / (elapsed / 1e9), allocated / ops);
+    }
+
+    // Ancienne version : chaque état garde une référence vers son téléphone
+    static final class AllocatingPhone {
+        private AllocatingState state = new AllocatingOff(this);
+
+        void pressPower() {
+            state.onOffOn();
+        }
+
+        void pressHome() {
+            state.onHome();
+        }
+    }
+
+    abstract static class AllocatingState {
+        final AllocatingPhone phone;
+
+        AllocatingState(AllocatingPhone phone) {
+            this.phone = phone;
+        }
+
+        abstract void onHome();
+        abstract void onOffOn();
+    }
+
+    static final class AllocatingOff extends AllocatingState {
+        AllocatingOff(AllocatingPhone phone) {
+            super(phone);
+        }
+
+        void onHome() {
+            phone.state = new AllocatingLocked(phone);
+        }
+
+        void onOffOn() {
+            phone.state = new AllocatingLocked(phone);
+        }
+    }
+
+    static final class AllocatingLocked extends AllocatingState {
+        AllocatingLocked(AllocatingPhone phone) {
+            super(phone);
+        }
+
+        void onHome() {
+            phone.state = new AllocatingReady(phone);
+        }
+
+        void onOffOn() {
+            phone.state = new AllocatingOff(phone);
+        }
+    }
+
+    static final class AllocatingReady extends AllocatingState {
+        AllocatingReady(AllocatingPhone phone) {
+            super(phone);
+        }
+
+        void onHome() {
+        }
+
+        void onOffOn() {
+            phone.state = new AllocatingOff(phone);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.numeriquepro;
+
+import java.lang.invoke.VarHandle;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Journal des transitions en anneau, partagé par plusieurs téléphones et alimenté sans verrou.
+// Chaque entrée reçoit un numéro de séquence ; quand l'anneau est plein, les plus anciennes
+// entrées sont écrasées. Le journal peut être rejoué pour reconstruire l'état des téléphones.
+// La séquence est prise après la transition : pour un même téléphone, c'est la version de
+// l'entrée (et non la séquence) qui donne l'ordre des transitions.
+public class TransitionLog {
+    private static final long WRITING = Long.MIN_VALUE;
+
+    private final int mask;
+    private final Phone[] phones;
+    private final long[] versions;
+    private final State[] froms;
+    private final State[] tos;
+    // Séquence publiée dans chaque case, ou WRITING pendant l'écriture
+    private final AtomicLongArray published;
+    private final AtomicLong next = new AtomicLong();
+
+    public TransitionLog(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacité doit être une puissance de 2 : " + capacity);
+        }
+        mask = capacity - 1;
+        phones = new Phone[capacity];
+        versions = new long[capacity];
+        froms = new State[capacity];
+        tos = new State[capacity];
+        published = new AtomicLongArray(capacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            published.set(slot, slot - (long) capacity); // "tour précédent" déjà publié
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // Nombre d'entrées ajoutées depuis la création
+    public long appended() {
+        return next.get();
+    }
+
+    void append(Phone phone, long version, State from, State to) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) sequence & mask;
+        // Attend que l'écrivain du tour précédent ait fini avec cette case
+        while (published.get(slot) != sequence - capacity()) {
+            Thread.onSpinWait();
+        }
+        published.set(slot, WRITING);
+        VarHandle.storeStoreFence();
+        phones[slot] = phone;
+        versions[slot] = version;
+        froms[slot] = from;
+        tos[slot] = to;
+        published.setRelease(slot, sequence);
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long sequence, Phone phone, long version, State from, State to);
+    }
+
+    // Parcourt les transitions encore présentes, dans l'ordre des séquences.
+    // Les entrées écrasées ou en cours d'écriture pendant la lecture sont sautées.
+    public void forEach(Visitor visitor) {
+        long end = next.get();
+        for (long sequence = Math.max(0, end - capacity()); sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            if (published.getAcquire(slot) != sequence) {
+                continue;
+            }
+            Phone phone = phones[slot];
+            long version = versions[slot];
+            State from = froms[slot];
+            State to = tos[slot];
+            VarHandle.loadLoadFence();
+            if (published.get(slot) == sequence) {
+                visitor.visit(sequence, phone, version, from, to);
+            }
+        }
+    }
+
+    // État de plus haute version de chaque téléphone présent dans le journal
+    public Map<Phone, State> replay() {
+        Map<Phone, State> states = new IdentityHashMap<>();
+        Map<Phone, Long> versions = new IdentityHashMap<>();
+        forEach((sequence, phone, version, from, to) -> {
+            Long known = versions.get(phone);
+            if (known == null || version > known) {
+                versions.put(phone, version);
+                states.put(phone, to);
+            }
+        });
+        return states;
+    }
+
+    // Remet chaque téléphone du journal dans son dernier état journalisé
+    public void restore() {
+        replay().forEach(Phone::setState);
+    }
+}
@@ -1,5 +1,6 @@
 package com.numeriquepro;
 
+@Manufacturer("asus")
 public class AsusManufacturer extends Company {
     @Override
     public Gpu createGpu() {
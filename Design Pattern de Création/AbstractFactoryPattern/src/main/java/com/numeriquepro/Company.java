@@ -1,6 +1,52 @@
 package com.numeriquepro;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
 public abstract class Company {
     public abstract Gpu createGpu();
     public abstract Monitor createMonitor();
-}
\ No newline at end of file
+
+    // Crée et assemble toute la famille : GPU et moniteur en parallèle, puisqu'ils sont indépendants
+    public Kit createKit() {
+        return createKitAsync(ForkJoinPool.commonPool()).join();
+    }
+
+    public CompletableFuture<Kit> createKitAsync(Executor executor) {
+        CompletableFuture<Timed<Gpu>> gpu = CompletableFuture.supplyAsync(() -> timed(() -> {
+            Gpu product = createGpu();
+            product.assemble();
+            return product;
+        }), executor);
+        CompletableFuture<Timed<Monitor>> monitor = CompletableFuture.supplyAsync(() -> timed(() -> {
+            Monitor product = createMonitor();
+            product.assemble();
+            return product;
+        }), executor);
+        return gpu.thenCombine(monitor, (g, m) -> new Kit(this, g.product(), g.duration(), m.product(), m.duration()));
+    }
+
+    // Assemble un kit par fabricant, tous en parallèle ; la liste suit l'ordre de companies
+    public static CompletableFuture<List<Kit>> createKits(Collection<? extends Company> companies, Executor executor) {
+        List<CompletableFuture<Kit>> kits = new ArrayList<>(companies.size());
+        for (Company company : companies) {
+            kits.add(company.createKitAsync(executor));
+        }
+        return CompletableFuture.allOf(kits.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> kits.stream().map(CompletableFuture::join).toList());
+    }
+
+    private static <T> Timed<T> timed(Supplier<T> step) {
+        long start = System.nanoTime();
+        T product = step.get();
+        return new Timed<>(product, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private record Timed<T>(T product, Duration duration) {}
+}
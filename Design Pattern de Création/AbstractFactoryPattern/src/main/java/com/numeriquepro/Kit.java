@@ -0,0 +1,7 @@
+package com.numeriquepro;
+
+import java.time.Duration;
+
+// Une famille de produits assemblés par un même fabricant, avec la durée d'assemblage de chacun
+public record Kit(Company company, Gpu gpu, Duration gpuAssembly, Monitor monitor, Duration monitorAssembly) {
+}
@@ -1,5 +1,8 @@
 package com.numeriquepro;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 public class Main {
     public static void main(String[] args) {
         Company msi = new MsiManufacturer();
@@ -9,5 +12,13 @@ public class Main {
         Company asus = new AsusManufacturer();
         Gpu asusGpu = asus.createGpu();
         Monitor asusMonitor = asus.createMonitor();
+
+        // Toute la famille d'un coup, produits assemblés en parallèle
+        Kit msiKit = msi.createKit();
+        System.out.println("MSI : GPU " + msiKit.gpuAssembly() + ", moniteur " + msiKit.monitorAssembly());
+
+        // Un kit par fabricant, en lot
+        List<Kit> kits = Company.createKits(List.of(msi, asus), ForkJoinPool.commonPool()).join();
+        System.out.println(kits.size() + " kits assemblés");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.numeriquepro;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Déclare une fabrique Company à indexer à la compilation (voir ManufacturerProcessor).
+// La classe doit être publique, concrète, et avoir un constructeur public sans argument.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Manufacturer {
+    String value();
+}
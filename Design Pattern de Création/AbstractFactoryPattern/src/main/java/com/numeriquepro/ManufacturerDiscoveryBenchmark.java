@@ -0,0 +1,74 @@
+package com.numeriquepro;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+// Temps de démarrage : premier fabricant obtenu via les index générés (Manufacturers) ou via ServiceLoader.
+// Chaque mesure se fait dans une JVM neuve, pour inclure le chargement des classes.
+// Lancement : java -cp target/classes com.numeriquepro.ManufacturerDiscoveryBenchmark [JVM par mode]
+public class ManufacturerDiscoveryBenchmark {
+    private static final String CHILD = "--child";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && CHILD.equals(args[0])) {
+            child(args[1]);
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        for (String mode : new String[]{"index", "serviceloader"}) {
+            long[] discovery = new long[runs];
+            long[] jvm = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                discovery[i] = runChild(mode);
+                jvm[i] = System.nanoTime() - start;
+            }
+            System.out.printf("%-13s : découverte médiane %8.1f µs, JVM complète médiane %6.1f ms%n",
+                    mode, median(discovery) / 1e3, median(jvm) / 1e6);
+        }
+    }
+
+    private static void child(String mode) {
+        long start = System.nanoTime();
+        Company company = "index".equals(mode) ? Manufacturers.create("msi") : loadWithServiceLoader("msi");
+        long elapsed = System.nanoTime() - start;
+        if (company == null) {
+            throw new IllegalStateException("Fabricant introuvable");
+        }
+        System.out.println(elapsed);
+    }
+
+    // Sans index, on n'a que les noms de classes : MsiManufacturer -> "msi"
+    private static Company loadWithServiceLoader(String name) {
+        return ServiceLoader.load(Company.class).stream()
+                .filter(provider -> provider.type().getSimpleName().toLowerCase(Locale.ROOT)
+                        .equals(name + "manufacturer"))
+                .map(ServiceLoader.Provider::get)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static long runChild(String mode) throws Exception {
+        String java = System.getProperty("java.home") + "/bin/java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ManufacturerDiscoveryBenchmark.class.getName(), CHILD, mode)
+                .redirectErrorStream(true)
+                .start();
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line = out.readLine();
+            if (process.waitFor() != 0 || line == null) {
+                throw new IllegalStateException("Échec de la JVM de mesure (" + mode + ") : " + line);
+            }
+            return Long.parseLong(line.trim());
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,13 @@
+package com.numeriquepro;
+
+import java.util.Set;
+
+// Index généré par ManufacturerProcessor, un par compilation (ce module, chaque jar de plugin).
+// Celui du module s'appelle GeneratedManufacturerIndex ; ceux des plugins sont déclarés dans
+// META-INF/services et ne sont chargés par Manufacturers que pour un nom inconnu du module.
+public interface ManufacturerIndex {
+    Set<String> names();
+
+    // null si le nom n'appartient pas à cet index
+    Company create(String name);
+}
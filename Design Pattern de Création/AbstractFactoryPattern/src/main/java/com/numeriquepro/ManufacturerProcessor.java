@@ -0,0 +1,173 @@
+package com.numeriquepro;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Processeur d'annotations : à la compilation, génère
+//  - une implémentation de ManufacturerIndex, un switch nom -> new XxxManufacturer() (aucune
+//    réflexion) ;
+//  - META-INF/services/com.numeriquepro.Company, pour comparer avec ServiceLoader.
+// Avec -Amanufacturers.module=true (ce module, voir le pom.xml), l'index porte le nom fixe
+// com.numeriquepro.GeneratedManufacturerIndex, que Manufacturers instancie directement.
+// Sans l'option (jar de plugin), son nom est propre à la compilation (paquet du premier
+// fabricant, suffixe tiré des fabricants) et il est déclaré dans
+// META-INF/services/com.numeriquepro.ManufacturerIndex : les plugins ne se masquent pas entre eux.
+// Il est compilé avant le reste du module (voir le pom.xml).
+@SupportedAnnotationTypes(ManufacturerProcessor.MANUFACTURER)
+@SupportedOptions(ManufacturerProcessor.MODULE_OPTION)
+public class ManufacturerProcessor extends AbstractProcessor {
+    static final String MANUFACTURER = "com.numeriquepro.Manufacturer";
+    static final String MODULE_OPTION = "manufacturers.module";
+    static final String MODULE_INDEX = "com.numeriquepro.GeneratedManufacturerIndex";
+    private static final String INDEX = "com.numeriquepro.ManufacturerIndex";
+    private static final String COMPANY = "com.numeriquepro.Company";
+
+    private final Map<String, String> manufacturers = new TreeMap<>();
+    private String indexName; // nom qualifié de l'index généré, null tant qu'il n'est pas écrit
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Manufacturer.class)) {
+            if (indexName != null) {
+                error(element, "@Manufacturer n'est pas pris en charge sur une classe générée");
+            } else if (validate(element)) {
+                TypeElement type = (TypeElement) element;
+                String name = element.getAnnotation(Manufacturer.class).value();
+                String previous = manufacturers.putIfAbsent(name, type.getQualifiedName().toString());
+                if (previous != null) {
+                    error(element, "Nom de fabricant déjà utilisé par " + previous + " : " + name);
+                }
+            }
+        }
+        // L'index est écrit dès le premier tour avec des fabricants, pour être compilé avec eux
+        try {
+            if (indexName == null && !manufacturers.isEmpty() && !round.processingOver()) {
+                writeIndex();
+            }
+            if (round.processingOver() && indexName != null && !round.errorRaised()) {
+                writeServiceFile(COMPANY, manufacturers.values());
+                if (!isModule()) {
+                    writeServiceFile(INDEX, Set.of(indexName));
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Impossible de générer l'index des fabricants : " + e.getMessage());
+        }
+        return true; // @Manufacturer n'est traitée que par ce processeur
+    }
+
+    private boolean validate(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "@Manufacturer s'applique à une classe");
+            return false;
+        }
+        Set<Modifier> modifiers = element.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+            error(element, "Un fabricant doit être une classe publique et concrète");
+            return false;
+        }
+        TypeMirror company = processingEnv.getElementUtils().getTypeElement(COMPANY).asType();
+        if (!processingEnv.getTypeUtils().isAssignable(element.asType(), company)) {
+            error(element, "Un fabricant doit étendre " + COMPANY);
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        error(element, "Un fabricant doit avoir un constructeur public sans argument");
+        return false;
+    }
+
+    private boolean isModule() {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(MODULE_OPTION));
+    }
+
+    private void writeIndex() throws IOException {
+        String qualifiedName;
+        if (isModule()) {
+            qualifiedName = MODULE_INDEX;
+        } else {
+            String first = manufacturers.values().iterator().next();
+            String prefix = first.substring(0, first.lastIndexOf('.') + 1); // paquet et point, ou ""
+            qualifiedName = prefix + String.format("ManufacturerIndex_%08x",
+                    String.join(",", manufacturers.values()).hashCode());
+        }
+        int dot = qualifiedName.lastIndexOf('.');
+        String packageName = dot < 0 ? "" : qualifiedName.substring(0, dot);
+        String simpleName = qualifiedName.substring(dot + 1);
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName);
+        try (Writer out = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                out.write("package " + packageName + ";\n\n");
+            }
+            out.write("import java.util.Set;\n\n");
+            out.write("// Généré par ManufacturerProcessor : ne pas modifier\n");
+            out.write("public final class " + simpleName + " implements " + INDEX + " {\n");
+            out.write("    private static final Set<String> NAMES = Set.of(");
+            out.write(String.join(", ", manufacturers.keySet().stream().map(name -> "\"" + escape(name) + "\"").toList()));
+            out.write(");\n\n");
+            out.write("    @Override\n");
+            out.write("    public Set<String> names() {\n");
+            out.write("        return NAMES;\n");
+            out.write("    }\n\n");
+            // switch sur String : table de hachage compilée, sans lambda ni réflexion au démarrage
+            out.write("    @Override\n");
+            out.write("    public " + COMPANY + " create(String name) {\n");
+            out.write("        switch (name) {\n");
+            for (Map.Entry<String, String> entry : manufacturers.entrySet()) {
+                out.write("            case \"" + escape(entry.getKey()) + "\": return new " + entry.getValue() + "();\n");
+            }
+            out.write("            default: return null;\n");
+            out.write("        }\n");
+            out.write("    }\n");
+            out.write("}\n");
+        }
+        indexName = qualifiedName;
+    }
+
+    private void writeServiceFile(String service, Collection<String> types) throws IOException {
+        FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + service);
+        try (Writer out = file.openWriter()) {
+            for (String type : types) {
+                out.write(type + "\n");
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,59 @@
+package com.numeriquepro;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+// Recherche d'un fabricant par nom dans les index générés à la compilation :
+// un switch compilé sur le nom, sans parcours du classpath ni réflexion.
+// L'index de ce module a un nom fixe et est instancié directement. Les index des jars de
+// plugin ne sont cherchés (ServiceLoader, une fois) que pour un nom absent de ce module.
+public final class Manufacturers {
+    private static final ManufacturerIndex MODULE = new GeneratedManufacturerIndex();
+
+    private Manufacturers() {}
+
+    public static Company create(String name) {
+        Company company = MODULE.create(name);
+        if (company != null) {
+            return company;
+        }
+        ManufacturerIndex plugin = Plugins.BY_NAME.get(name);
+        if (plugin == null) {
+            throw new IllegalArgumentException("Fabricant inconnu : " + name);
+        }
+        return plugin.create(name);
+    }
+
+    public static Set<String> names() {
+        Set<String> names = new HashSet<>(MODULE.names());
+        names.addAll(Plugins.BY_NAME.keySet());
+        return Set.copyOf(names);
+    }
+
+    // Chargé au premier nom inconnu du module ; un même nom dans deux index est une erreur de configuration
+    private static final class Plugins {
+        private static final Map<String, ManufacturerIndex> BY_NAME = load();
+
+        private static Map<String, ManufacturerIndex> load() {
+            Map<String, ManufacturerIndex> byName = new HashMap<>();
+            for (ManufacturerIndex index : ServiceLoader.load(ManufacturerIndex.class, Manufacturers.class.getClassLoader())) {
+                for (String name : index.names()) {
+                    if (MODULE.names().contains(name)) {
+                        throw new ServiceConfigurationError("Fabricant " + name + " déclaré par "
+                                + MODULE.getClass().getName() + " et " + index.getClass().getName());
+                    }
+                    ManufacturerIndex previous = byName.putIfAbsent(name, index);
+                    if (previous != null) {
+                        throw new ServiceConfigurationError("Fabricant " + name + " déclaré par "
+                                + previous.getClass().getName() + " et " + index.getClass().getName());
+                    }
+                }
+            }
+            return Map.copyOf(byName);
+        }
+    }
+}
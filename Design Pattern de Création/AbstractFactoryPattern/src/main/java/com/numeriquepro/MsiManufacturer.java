@@ -1,5 +1,6 @@
 package com.numeriquepro;
 
+@Manufacturer("msi")
 public class MsiManufacturer extends Company {
     @Override
     public Gpu createGpu() {
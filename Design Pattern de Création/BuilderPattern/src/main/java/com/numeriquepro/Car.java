@@ -11,6 +11,11 @@ class Car {
 
     // Constructeur package-private (accessible uniquement dans le même package)
     Car(String brand, String model, String color, int doors, String screen, double weight, double height) {
+        set(brand, model, color, doors, screen, weight, height);
+    }
+
+    // Réinitialise une voiture recyclée (voir CarPool)
+    void set(String brand, String model, String color, int doors, String screen, double weight, double height) {
         this.brand = brand;
         this.model = model;
         this.color = color;
@@ -19,4 +24,32 @@ class Car {
         this.weight = weight;
         this.height = height;
     }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getDoors() {
+        return doors;
+    }
+
+    public String getScreen() {
+        return screen;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public double getHeight() {
+        return height;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.numeriquepro;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Stockage en colonnes (struct of arrays) d'un grand nombre de voitures :
+// doors / weight / height dans des tableaux primitifs, brand / model / color / screen
+// sous forme de codes dans un StringDictionary partagé. Non thread-safe.
+public class CarBatch {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StringDictionary dictionary;
+    private int size;
+    private int[] brands;
+    private int[] models;
+    private int[] colors;
+    private int[] doors;
+    private int[] screens;
+    private double[] weights;
+    private double[] heights;
+
+    public CarBatch() {
+        this(new StringDictionary());
+    }
+
+    public CarBatch(StringDictionary dictionary) {
+        this(dictionary, INITIAL_CAPACITY);
+    }
+
+    public CarBatch(StringDictionary dictionary, int capacity) {
+        this.dictionary = dictionary;
+        int initial = Math.max(capacity, 1);
+        brands = new int[initial];
+        models = new int[initial];
+        colors = new int[initial];
+        doors = new int[initial];
+        screens = new int[initial];
+        weights = new double[initial];
+        heights = new double[initial];
+    }
+
+    // Builder de ligne : même API que CarBuilder, add() ajoute la ligne au lot
+    public RowBuilder append() {
+        return new RowBuilder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public StringDictionary dictionary() {
+        return dictionary;
+    }
+
+    // Vue réutilisable (flyweight) : moveTo(row) la repositionne sans allocation
+    public CarView view() {
+        return new CarView();
+    }
+
+    public Car toCar(int row) {
+        checkRow(row);
+        return new Car(dictionary.decode(brands[row]), dictionary.decode(models[row]),
+                dictionary.decode(colors[row]), doors[row], dictionary.decode(screens[row]),
+                weights[row], heights[row]);
+    }
+
+    // brand == null : moyenne des voitures sans marque, comme la clé null de averageWeightByBrand()
+    public double averageWeight(String brand) {
+        int code = dictionary.codeOf(brand);
+        if (code == StringDictionary.NULL_CODE && brand != null) {
+            return Double.NaN; // marque jamais vue
+        }
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (brands[i] == code) {
+                sum += weights[i];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    // Un seul passage sur les colonnes brand et weight, cumuls indexés par code.
+    // Les voitures sans marque sont regroupées sous la clé null.
+    public Map<String, Double> averageWeightByBrand() {
+        int codes = dictionary.size();
+        double[] sums = new double[codes];
+        int[] counts = new int[codes];
+        int nulls = 0;
+        double nullSum = 0;
+        for (int i = 0; i < size; i++) {
+            int code = brands[i];
+            if (code == StringDictionary.NULL_CODE) {
+                nullSum += weights[i];
+                nulls++;
+            } else {
+                sums[code] += weights[i];
+                counts[code]++;
+            }
+        }
+        Map<String, Double> averages = new LinkedHashMap<>();
+        for (int code = 0; code < codes; code++) {
+            if (counts[code] > 0) {
+                averages.put(dictionary.decode(code), sums[code] / counts[code]);
+            }
+        }
+        if (nulls > 0) {
+            averages.put(null, nullSum / nulls);
+        }
+        return averages;
+    }
+
+    private void add(String brand, String model, String color, int doors, String screen, double weight, double height) {
+        if (size == brands.length) {
+            grow();
+        }
+        brands[size] = dictionary.encode(brand);
+        models[size] = dictionary.encode(model);
+        colors[size] = dictionary.encode(color);
+        this.doors[size] = doors;
+        screens[size] = dictionary.encode(screen);
+        weights[size] = weight;
+        heights[size] = height;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = brands.length * 2;
+        brands = Arrays.copyOf(brands, capacity);
+        models = Arrays.copyOf(models, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        doors = Arrays.copyOf(doors, capacity);
+        screens = Arrays.copyOf(screens, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Ligne " + row + " hors du lot de taille " + size);
+        }
+    }
+
+    public class RowBuilder {
+        private String brand;
+        private String model;
+        private String color;
+        private int doors;
+        private String screen;
+        private double weight;
+        private double height;
+
+        private RowBuilder() {}
+
+        public RowBuilder brand(String brand) {
+            this.brand = brand;
+            return this;
+        }
+
+        public RowBuilder model(String model) {
+            this.model = model;
+            return this;
+        }
+
+        public RowBuilder color(String color) {
+            this.color = color;
+            return this;
+        }
+
+        public RowBuilder doors(int doors) {
+            this.doors = doors;
+            return this;
+        }
+
+        public RowBuilder screen(String screen) {
+            this.screen = screen;
+            return this;
+        }
+
+        public RowBuilder weight(double weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        public RowBuilder height(double height) {
+            this.height = height;
+            return this;
+        }
+
+        // Ajoute la ligne puis remet le builder à zéro pour la suivante
+        public RowBuilder add() {
+            CarBatch.this.add(brand, model, color, doors, screen, weight, height);
+            brand = null;
+            model = null;
+            color = null;
+            doors = 0;
+            screen = null;
+            weight = 0;
+            height = 0;
+            return this;
+        }
+    }
+
+    public class CarView {
+        private int row;
+
+        private CarView() {}
+
+        public CarView moveTo(int row) {
+            checkRow(row);
+            this.row = row;
+            return this;
+        }
+
+        public int row() {
+            return row;
+        }
+
+        public String getBrand() {
+            return dictionary.decode(brands[row]);
+        }
+
+        public String getModel() {
+            return dictionary.decode(models[row]);
+        }
+
+        public String getColor() {
+            return dictionary.decode(colors[row]);
+        }
+
+        public int getDoors() {
+            return doors[row];
+        }
+
+        public String getScreen() {
+            return dictionary.decode(screens[row]);
+        }
+
+        public double getWeight() {
+            return weights[row];
+        }
+
+        public double getHeight() {
+            return heights[row];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.numeriquepro;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Mémoire par voiture et temps du calcul "poids moyen par marque" :
+// List<Car> (un objet + des chaînes par voiture) contre CarBatch (colonnes + dictionnaire).
+// Les chaînes sont recréées pour chaque ligne, comme après lecture d'un fichier.
+// Lancement : java -cp target/classes com.numeriquepro.CarBatchBenchmark [voitures]
+public class CarBatchBenchmark {
+    private static final String[] BRANDS = {"Bugatti", "Tesla", "Renault", "Peugeot", "Toyota", "Ford", "BMW", "Audi"};
+    private static final String[] MODELS = {"Veyron", "Model S", "Clio", "208", "Yaris", "Focus", "X5", "A3"};
+    private static final String[] COLORS = {"Red", "Blue", "Black", "White", "Grey"};
+    private static final String[] SCREENS = {"LCD", "LED", "OLED"};
+
+    static Object retained;
+
+    public static void main(String[] args) {
+        int cars = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        List<Car> list = measureHeap("List<Car>", cars, () -> {
+            List<Car> result = new ArrayList<>(cars);
+            CarBuilder builder = new CarBuilder();
+            for (int i = 0; i < cars; i++) {
+                result.add(fill(builder.reset(), i).build());
+            }
+            return result;
+        });
+        CarBatch batch = measureHeap("CarBatch", cars, () -> {
+            CarBatch result = new CarBatch(new StringDictionary(), cars);
+            CarBatch.RowBuilder row = result.append();
+            for (int i = 0; i < cars; i++) {
+                row.brand(new String(BRANDS[i % BRANDS.length]))
+                        .model(new String(MODELS[i % MODELS.length]))
+                        .color(new String(COLORS[i % COLORS.length]))
+                        .doors(2 + i % 3)
+                        .screen(new String(SCREENS[i % SCREENS.length]))
+                        .weight(900 + i % 1000)
+                        .height(1.2 + (i % 50) / 100.0)
+                        .add();
+            }
+            return result;
+        });
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            Map<String, Double> fromList = averageWeightByBrand(list);
+            long listNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            Map<String, Double> fromBatch = batch.averageWeightByBrand();
+            long batchNanos = System.nanoTime() - start;
+            System.out.printf("poids moyen par marque : List<Car> %6.1f ms, CarBatch %6.1f ms (%s)%n",
+                    listNanos / 1e6, batchNanos / 1e6, fromList.equals(fromBatch) ? "résultats identiques" : "ÉCART");
+        }
+    }
+
+    private static CarBuilder fill(CarBuilder builder, int i) {
+        return builder.brand(new String(BRANDS[i % BRANDS.length]))
+                .model(new String(MODELS[i % MODELS.length]))
+                .color(new String(COLORS[i % COLORS.length]))
+                .doors(2 + i % 3)
+                .screen(new String(SCREENS[i % SCREENS.length]))
+                .weight(900 + i % 1000)
+                .height(1.2 + (i % 50) / 100.0);
+    }
+
+    private static Map<String, Double> averageWeightByBrand(List<Car> cars) {
+        Map<String, double[]> totals = new HashMap<>();
+        for (Car car : cars) {
+            double[] total = totals.computeIfAbsent(car.getBrand(), b -> new double[2]);
+            total[0] += car.getWeight();
+            total[1]++;
+        }
+        Map<String, Double> averages = new HashMap<>();
+        totals.forEach((brand, total) -> averages.put(brand, total[0] / total[1]));
+        return averages;
+    }
+
+    private static <T> T measureHeap(String name, int cars, Supplier<T> build) {
+        long before = usedHeap();
+        T result = build.get();
+        retained = result;
+        long after = usedHeap();
+        System.out.printf("%-10s : %6.1f octets/voiture%n", name, (double) (after - before) / cars);
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -1,6 +1,8 @@
 package com.numeriquepro;
 
 public class CarBuilder {
+    private static final ThreadLocal<CarBuilder> PER_THREAD = ThreadLocal.withInitial(CarBuilder::new);
+
     private String brand;
     private String model;
     private String color;
@@ -44,7 +46,30 @@ public class CarBuilder {
         return this;
     }
 
+    // Builder réutilisable propre au thread courant, déjà remis à zéro
+    public static CarBuilder forCurrentThread() {
+        return PER_THREAD.get().reset();
+    }
+
+    public CarBuilder reset() {
+        brand = null;
+        model = null;
+        color = null;
+        doors = 0;
+        screen = null;
+        weight = 0;
+        height = 0;
+        return this;
+    }
+
     public Car build() {
         return new Car(brand, model, color, doors, screen, weight, height);
     }
+
+    // Construit dans une voiture recyclée du pool au lieu d'en allouer une nouvelle
+    public Car build(CarPool pool) {
+        Car car = pool.acquire();
+        car.set(brand, model, color, doors, screen, weight, height);
+        return car;
+    }
 }
\ No newline at end of file
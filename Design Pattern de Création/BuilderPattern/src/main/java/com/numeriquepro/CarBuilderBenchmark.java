@@ -0,0 +1,55 @@
+package com.numeriquepro;
+
+import java.lang.management.ManagementFactory;
+
+// Octets alloués et débit par voiture construite :
+//  - avant : new CarBuilder()...build() pour chaque voiture ;
+//  - après : builder du thread réutilisé + voitures recyclées via CarPool.
+// Lancement : java -cp target/classes com.numeriquepro.CarBuilderBenchmark [voitures]
+public class CarBuilderBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Les voitures sont publiées ici pour que le JIT ne puisse pas supprimer les allocations
+    static final Car[] SINK = new Car[1024];
+
+    public static void main(String[] args) {
+        int cars = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        for (int round = 0; round < 3; round++) {
+            measure("avant (new CarBuilder)", cars, CarBuilderBenchmark::freshBuilders);
+            measure("après (reset + CarPool)", cars, CarBuilderBenchmark::reusedBuilder);
+        }
+    }
+
+    private static void freshBuilders(int cars) {
+        for (int i = 0; i < cars; i++) {
+            SINK[i & 1023] = new CarBuilder()
+                    .brand("Bugatti").model("Veyron").color("Red").doors(2)
+                    .screen("LCD").weight(1200.5).height(i)
+                    .build();
+        }
+    }
+
+    private static void reusedBuilder(int cars) {
+        CarPool pool = new CarPool(1);
+        CarBuilder builder = CarBuilder.forCurrentThread();
+        for (int i = 0; i < cars; i++) {
+            Car car = builder.reset()
+                    .brand("Bugatti").model("Veyron").color("Red").doors(2)
+                    .screen("LCD").weight(1200.5).height(i)
+                    .build(pool);
+            SINK[i & 1023] = car;
+            pool.release(car);
+        }
+    }
+
+    private static void measure(String name, int cars, java.util.function.IntConsumer workload) {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        workload.accept(cars);
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        System.out.printf("%-24s : %,14.0f voitures/s, %6.1f octets/voiture%n",
+                name, cars / (elapsed / 1e9), (double) allocated / cars);
+    }
+}
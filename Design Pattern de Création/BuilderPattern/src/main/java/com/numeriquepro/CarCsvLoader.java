@@ -0,0 +1,314 @@
+package com.numeriquepro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Chargement d'un catalogue CSV (brand,model,color,doors,screen,weight,height) par projection
+// mémoire du fichier. Le fichier est découpé en morceaux alignés sur les fins de ligne et
+// chaque morceau est analysé en parallèle dans le ForkJoinPool, directement depuis les octets :
+// les nombres sont lus sans String, et chaque valeur texte distincte n'est décodée qu'une fois.
+// Format simple : pas de guillemets ni de virgule dans les valeurs ; une ligne d'en-tête
+// commençant par "brand" est ignorée.
+public class CarCsvLoader {
+    // Un morceau doit tenir dans un seul MappedByteBuffer (< 2 Go)
+    private static final long MAX_CHUNK = 256L * 1024 * 1024;
+    private static final long MIN_CHUNK = 1024 * 1024;
+    private static final byte[] HEADER = "brand".getBytes(StandardCharsets.US_ASCII);
+
+    private final ForkJoinPool pool;
+
+    public CarCsvLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CarCsvLoader(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<Car> load(Path file) throws IOException {
+        List<List<Car>> parts = run(file, (chunk, builder) -> {
+            List<Car> cars = new ArrayList<>();
+            chunk.parse(builder, row -> cars.add(row.build()));
+            return cars;
+        });
+        List<Car> cars = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+        parts.forEach(cars::addAll);
+        return cars;
+    }
+
+    // rows reçoit un CarBuilder rempli pour chaque ligne ; il est appelé en parallèle
+    // depuis plusieurs threads et ne doit pas garder le builder (il est réutilisé).
+    public long forEach(Path file, Consumer<CarBuilder> rows) throws IOException {
+        List<Long> counts = run(file, (chunk, builder) -> chunk.parse(builder, rows));
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private <R> List<R> run(Path file, ChunkTask<R> task) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            List<Callable<R>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                if (end > start) {
+                    tasks.add(() -> task.run(new Chunk(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start),
+                            start == 0), new CarBuilder()));
+                }
+            }
+            List<R> results = new ArrayList<>(tasks.size());
+            for (Future<R> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Chargement interrompu : " + file, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Échec du chargement de " + file, e.getCause());
+        }
+    }
+
+    // Bornes des morceaux, chacune placée juste après un '\n'
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int wanted = Math.max(1, pool.getParallelism() * 4);
+        long chunk = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, size / wanted + 1));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = chunk;
+        while (position < size) {
+            long lineEnd = nextLineStart(channel, position, probe);
+            bounds.add(lineEnd);
+            position = lineEnd + chunk;
+        }
+        if (bounds.get(bounds.size() - 1) < size) {
+            bounds.add(size);
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        long size = channel.size();
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask<R> {
+        R run(Chunk chunk, CarBuilder builder) throws IOException;
+    }
+
+    private static final class Chunk {
+        private final MappedByteBuffer bytes;
+        private final boolean first;
+        private final ByteStringCache strings = new ByteStringCache();
+        private int position;
+
+        private Chunk(MappedByteBuffer bytes, boolean first) {
+            this.bytes = bytes;
+            this.first = first;
+        }
+
+        private long parse(CarBuilder builder, Consumer<CarBuilder> rows) throws IOException {
+            int limit = bytes.limit();
+            if (first && startsWith(HEADER)) {
+                skipLine(limit);
+            }
+            long count = 0;
+            while (position < limit) {
+                if (bytes.get(position) == '\n' || bytes.get(position) == '\r') {
+                    position++; // ligne vide
+                    continue;
+                }
+                builder.reset()
+                        .brand(text(limit))
+                        .model(text(limit))
+                        .color(text(limit))
+                        .doors((int) number(limit))
+                        .screen(text(limit))
+                        .weight(number(limit))
+                        .height(number(limit));
+                skipLine(limit);
+                rows.accept(builder);
+                count++;
+            }
+            return count;
+        }
+
+        private boolean startsWith(byte[] prefix) {
+            if (bytes.limit() < prefix.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length; i++) {
+                if (bytes.get(i) != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void skipLine(int limit) {
+            while (position < limit && bytes.get(position++) != '\n') {
+                // avance jusqu'à la ligne suivante
+            }
+        }
+
+        // Fin du champ courant (',' ou fin de ligne), sans consommer le séparateur
+        private int fieldEnd(int limit) {
+            int end = position;
+            while (end < limit) {
+                byte b = bytes.get(end);
+                if (b == ',' || b == '\n' || b == '\r') {
+                    break;
+                }
+                end++;
+            }
+            return end;
+        }
+
+        private void consumeSeparator(int end, int limit) {
+            position = end;
+            if (position < limit && bytes.get(position) == ',') {
+                position++;
+            }
+        }
+
+        private String text(int limit) {
+            int end = fieldEnd(limit);
+            String value = end == position ? null : strings.get(bytes, position, end);
+            consumeSeparator(end, limit);
+            return value;
+        }
+
+        private double number(int limit) throws IOException {
+            int end = fieldEnd(limit);
+            double value = parseNumber(position, end);
+            consumeSeparator(end, limit);
+            return value;
+        }
+
+        // Chemin rapide [-]chiffres[.chiffres] exact tant que la mantisse tient sur 53 bits ;
+        // sinon (exposant, très long nombre) repli sur Double.parseDouble.
+        private double parseNumber(int start, int end) throws IOException {
+            if (start == end) {
+                return 0;
+            }
+            int i = start;
+            boolean negative = bytes.get(i) == '-';
+            if (negative || bytes.get(i) == '+') {
+                i++;
+            }
+            long mantissa = 0;
+            int decimals = -1;
+            int digits = 0;
+            for (; i < end; i++) {
+                byte b = bytes.get(i);
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (decimals >= 0) {
+                        decimals++;
+                    }
+                } else if (b == '.' && decimals < 0) {
+                    decimals = 0;
+                } else {
+                    return slowParse(start, end);
+                }
+            }
+            if (digits == 0 || digits > 15) {
+                return slowParse(start, end);
+            }
+            double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+            return negative ? -value : value;
+        }
+
+        private double slowParse(int start, int end) throws IOException {
+            byte[] raw = new byte[end - start];
+            bytes.get(start, raw);
+            String text = new String(raw, StandardCharsets.US_ASCII);
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw new IOException("Nombre invalide à l'octet " + start + " : " + text, e);
+            }
+        }
+    }
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    // Cache octets -> String : une valeur déjà vue est retrouvée sans allocation.
+    // Taille bornée ; au-delà, les nouvelles valeurs sont simplement décodées.
+    private static final class ByteStringCache {
+        private static final int SLOTS = 4096;
+        private static final int MAX_ENTRIES = SLOTS / 2;
+
+        private final byte[][] keys = new byte[SLOTS][];
+        private final String[] values = new String[SLOTS];
+        private int entries;
+
+        private String get(ByteBuffer bytes, int start, int end) {
+            int hash = 0x811C9DC5;
+            for (int i = start; i < end; i++) {
+                hash = (hash ^ bytes.get(i)) * 0x01000193;
+            }
+            int slot = hash & (SLOTS - 1);
+            while (keys[slot] != null) {
+                if (matches(keys[slot], bytes, start, end)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & (SLOTS - 1);
+            }
+            byte[] key = new byte[end - start];
+            bytes.get(start, key);
+            String value = new String(key, StandardCharsets.UTF_8);
+            if (entries < MAX_ENTRIES) {
+                keys[slot] = key;
+                values[slot] = value;
+                entries++;
+            }
+            return value;
+        }
+
+        private static boolean matches(byte[] key, ByteBuffer bytes, int start, int end) {
+            if (key.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != bytes.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.numeriquepro;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lignes/s : BufferedReader + split() + CarBuilder contre CarCsvLoader (projection mémoire, parallèle).
+// Lancement : java -cp target/classes com.numeriquepro.CarCsvLoaderBenchmark [lignes]
+public class CarCsvLoaderBenchmark {
+    private static final String[] BRANDS = {"Bugatti", "Tesla", "Renault", "Peugeot", "Toyota", "Ford", "BMW", "Audi"};
+    private static final String[] MODELS = {"Veyron", "Model S", "Clio", "208", "Yaris", "Focus", "X5", "A3"};
+    private static final String[] COLORS = {"Red", "Blue", "Black", "White", "Grey"};
+    private static final String[] SCREENS = {"LCD", "LED", "OLED"};
+
+    static volatile double blackhole;
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Path file = Files.createTempFile("cars", ".csv");
+        try {
+            generate(file, rows);
+            System.out.printf("%,d lignes, %.1f Mo%n", rows, Files.size(file) / 1e6);
+            CarCsvLoader loader = new CarCsvLoader();
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                long read = readLines(file);
+                report("BufferedReader", read, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                LongAdder doors = new LongAdder();
+                read = loader.forEach(file, car -> doors.add(car.build().getDoors()));
+                report("CarCsvLoader", read, System.nanoTime() - start);
+                blackhole = doors.sum();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long readLines(Path file) throws IOException {
+        long rows = 0;
+        long doors = 0;
+        CarBuilder builder = new CarBuilder();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            reader.readLine(); // en-tête
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split(",");
+                Car car = builder.reset()
+                        .brand(fields[0]).model(fields[1]).color(fields[2])
+                        .doors(Integer.parseInt(fields[3])).screen(fields[4])
+                        .weight(Double.parseDouble(fields[5])).height(Double.parseDouble(fields[6]))
+                        .build();
+                doors += car.getDoors();
+                rows++;
+            }
+        }
+        blackhole = doors;
+        return rows;
+    }
+
+    private static void report(String name, long rows, long nanos) {
+        System.out.printf("%-15s : %,12.0f lignes/s%n", name, rows / (nanos / 1e9));
+    }
+
+    private static void generate(Path file, int rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("brand,model,color,doors,screen,weight,height\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write(BRANDS[i % BRANDS.length]);
+                writer.write(',');
+                writer.write(MODELS[i % MODELS.length]);
+                writer.write(',');
+                writer.write(COLORS[i % COLORS.length]);
+                writer.write(',');
+                writer.write(Integer.toString(2 + i % 3));
+                writer.write(',');
+                writer.write(SCREENS[i % SCREENS.length]);
+                writer.write(',');
+                writer.write(Double.toString(900 + i % 1000 + 0.5));
+                writer.write(',');
+                writer.write(Double.toString(1.2 + (i % 50) / 100.0));
+                writer.write('\n');
+            }
+        }
+    }
+}
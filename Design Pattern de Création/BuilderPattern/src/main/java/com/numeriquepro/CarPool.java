@@ -0,0 +1,32 @@
+package com.numeriquepro;
+
+// Pool de voitures recyclables. Non thread-safe : un pool par thread.
+public class CarPool {
+    private final Car[] free;
+    private int size;
+
+    public CarPool(int capacity) {
+        free = new Car[capacity];
+    }
+
+    Car acquire() {
+        if (size == 0) {
+            return new Car(null, null, null, 0, null, 0, 0);
+        }
+        Car car = free[--size];
+        free[size] = null;
+        return car;
+    }
+
+    // La voiture ne doit plus être utilisée par l'appelant après release()
+    public void release(Car car) {
+        if (size < free.length) {
+            car.set(null, null, null, 0, null, 0, 0);
+            free[size++] = car;
+        }
+    }
+
+    public int available() {
+        return size;
+    }
+}
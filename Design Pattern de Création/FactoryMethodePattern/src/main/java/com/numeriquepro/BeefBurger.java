@@ -2,6 +2,13 @@ package com.numeriquepro;
 
 public class BeefBurger extends Burger{
     private String angus;
+
+    @Override
+    void reset() {
+        super.reset();
+        angus = null;
+    }
+
     @Override
     public void prepare() {
         System.out.println("Préparation du BeefBurger...");
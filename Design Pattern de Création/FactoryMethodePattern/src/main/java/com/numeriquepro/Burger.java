@@ -1,8 +1,46 @@
 package com.numeriquepro;
 
-public abstract class Burger {
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public abstract class Burger implements AutoCloseable {
+    private static final VarHandle POOLED;
+
+    static {
+        try {
+            POOLED = MethodHandles.lookup().findVarHandle(Burger.class, "pooled", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private int productId;
 
     private String addOns;
+
+    // Pool d'origine si le burger vient d'un BurgerPool, null sinon
+    BurgerPool pool;
+    // true tant que le burger est dans le pool ; passé à true par CAS : un seul close() le rend
+    volatile boolean pooled;
+
     abstract void prepare();
-}
\ No newline at end of file
+
+    // Remet le burger dans l'état d'un burger neuf avant réutilisation
+    void reset() {
+        productId = 0;
+        addOns = null;
+    }
+
+    // false si le burger est déjà rendu (par un autre close() concurrent, par exemple)
+    boolean markPooled() {
+        return POOLED.compareAndSet(this, false, true);
+    }
+
+    // Rend le burger à son pool ; sans pool, ne fait rien
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+}
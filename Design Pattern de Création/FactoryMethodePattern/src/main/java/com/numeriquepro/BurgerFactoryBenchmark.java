@@ -0,0 +1,70 @@
+package com.numeriquepro;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Coût d'une création de burger avec 5, 50 et 500 types enregistrés :
+//  - chaîne de equals() (comme l'ancienne SimpleBurgerFactory), pire cas = dernier type ;
+//  - createBurger(String) : une recherche dans la map puis la table ;
+//  - createBurger(int) : identifiant résolu à l'avance, accès direct à la table.
+// Lancement : java -cp target/classes com.numeriquepro.BurgerFactoryBenchmark [créations]
+public class BurgerFactoryBenchmark {
+    static final Burger[] SINK = new Burger[1024];
+
+    public static void main(String[] args) {
+        int creations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        for (int types : new int[]{5, 50, 500}) {
+            SimpleBurgerFactory factory = new SimpleBurgerFactory();
+            List<String> names = new ArrayList<>();
+            List<Supplier<Burger>> chain = new ArrayList<>();
+            for (int i = 0; i < types; i++) {
+                String name = "TYPE_" + i;
+                Supplier<Burger> supplier = i % 2 == 0 ? BeefBurger::new : VeggieBurger::new;
+                factory.register(name, supplier);
+                names.add(name);
+                chain.add(supplier);
+            }
+            // Nouvelle instance de String : equals() doit comparer les caractères, comme une requête reçue
+            String last = new String(names.get(types - 1));
+            int lastId = factory.resolve(last);
+
+            for (int round = 0; round < 3; round++) {
+                long chainNanos = time(creations, n -> {
+                    for (int i = 0; i < n; i++) {
+                        SINK[i & 1023] = equalsChain(names, chain, last);
+                    }
+                });
+                long byName = time(creations, n -> {
+                    for (int i = 0; i < n; i++) {
+                        SINK[i & 1023] = factory.createBurger(last);
+                    }
+                });
+                long byId = time(creations, n -> {
+                    for (int i = 0; i < n; i++) {
+                        SINK[i & 1023] = factory.createBurger(lastId);
+                    }
+                });
+                if (round == 2) {
+                    System.out.printf("%3d types : chaîne equals %7.1f ns, par nom %5.1f ns, par identifiant %5.1f ns%n",
+                            types, (double) chainNanos / creations, (double) byName / creations, (double) byId / creations);
+                }
+            }
+        }
+    }
+
+    private static Burger equalsChain(List<String> names, List<Supplier<Burger>> suppliers, String type) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).equals(type)) {
+                return suppliers.get(i).get();
+            }
+        }
+        return null;
+    }
+
+    private static long time(int creations, java.util.function.IntConsumer workload) {
+        long start = System.nanoTime();
+        workload.accept(creations);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,99 @@
+package com.numeriquepro;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+// Pool de burgers recyclables : un petit cache par thread (sans synchronisation), et au-delà
+// un réservoir partagé sans verrou (cases échangées par CAS, sans allocation ni problème ABA).
+// Quand tout est vide, un nouveau burger est créé ; quand tout est plein, le burger rendu est
+// abandonné au GC.
+public class BurgerPool {
+    private final Supplier<? extends Burger> factory;
+    private final ThreadLocal<LocalCache> local;
+    private final AtomicReferenceArray<Burger> shared;
+
+    public BurgerPool(Supplier<? extends Burger> factory, int localCapacity, int sharedCapacity) {
+        this.factory = factory;
+        this.local = ThreadLocal.withInitial(() -> new LocalCache(localCapacity));
+        this.shared = new AtomicReferenceArray<>(sharedCapacity);
+    }
+
+    public Burger acquire() {
+        Burger burger = local.get().pop();
+        if (burger == null) {
+            burger = takeShared();
+        }
+        if (burger == null) {
+            burger = factory.get();
+            burger.pool = this;
+        }
+        burger.pooled = false;
+        return burger;
+    }
+
+    void release(Burger burger) {
+        if (burger.pool != this || !burger.markPooled()) {
+            return; // venant d'un autre pool, ou déjà rendu
+        }
+        burger.reset();
+        if (!local.get().push(burger) && !offerShared(burger)) {
+            burger.pooled = false; // pool plein : laissé au GC
+        }
+    }
+
+    private Burger takeShared() {
+        int start = probe();
+        for (int i = 0; i < shared.length(); i++) {
+            int slot = (start + i) % shared.length();
+            if (shared.get(slot) != null) {
+                Burger burger = shared.getAndSet(slot, null);
+                if (burger != null) {
+                    return burger;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean offerShared(Burger burger) {
+        int start = probe();
+        for (int i = 0; i < shared.length(); i++) {
+            int slot = (start + i) % shared.length();
+            if (shared.get(slot) == null && shared.compareAndSet(slot, null, burger)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Point de départ propre au thread pour limiter les collisions entre threads
+    private int probe() {
+        return shared.length() == 0 ? 0 : (int) (Thread.currentThread().getId() % shared.length());
+    }
+
+    private static final class LocalCache {
+        private final Burger[] items;
+        private int size;
+
+        private LocalCache(int capacity) {
+            items = new Burger[capacity];
+        }
+
+        private Burger pop() {
+            if (size == 0) {
+                return null;
+            }
+            Burger burger = items[--size];
+            items[size] = null;
+            return burger;
+        }
+
+        private boolean push(Burger burger) {
+            if (size == items.length) {
+                return false;
+            }
+            items[size++] = burger;
+            return true;
+        }
+    }
+}
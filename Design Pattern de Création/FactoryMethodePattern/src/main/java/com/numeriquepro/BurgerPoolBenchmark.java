@@ -0,0 +1,57 @@
+package com.numeriquepro;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+// Pression sur le GC avec et sans pool : commandes/s, octets alloués par commande et
+// nombre de collections, pour orderBurger() suivi de close().
+// Avec le pool, les octets restants viennent du System.out.println de prepare().
+// Lancement : java -cp target/classes com.numeriquepro.BurgerPoolBenchmark [commandes]
+public class BurgerPoolBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static volatile Burger blackhole;
+
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        PrintStream console = System.out;
+        // prepare() affiche un message : on le jette pour ne mesurer que la création
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int round = 0; round < 3; round++) {
+                measure(console, "sans pool", new BeefBurgerRestaurantFactoryMethod(), orders);
+                measure(console, "avec pool", new BeefBurgerRestaurantFactoryMethod().withPooling(16, 256), orders);
+            }
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    private static void measure(PrintStream console, String name, RestaurantFactoryMethod restaurant, int orders) {
+        long collections = collections();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < orders; i++) {
+            Burger burger = restaurant.orderBurger();
+            if ((i & 1023) == 0) {
+                blackhole = burger;
+            }
+            burger.close();
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        console.printf("%-9s : %,12.0f commandes/s, %6.1f octets/commande, %4d GC%n",
+                name, orders / (elapsed / 1e9), (double) allocated / orders, collections() - collections);
+    }
+
+    private static long collections() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,107 @@
+package com.numeriquepro;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Prise de commandes asynchrone pour un restaurant : createBurger() + prepare() s'exécutent
+// sur un executor configurable. Au-delà de maxInFlight commandes en cours, orderBurgerAsync()
+// bloque l'appelant (contre-pression). Débit et latences sont mesurés par pipeline.
+public class OrderPipeline implements AutoCloseable {
+    private final RestaurantFactoryMethod restaurant;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore inFlight;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final long createdAt = System.nanoTime();
+
+    public OrderPipeline(RestaurantFactoryMethod restaurant, int maxInFlight) {
+        this(restaurant, defaultExecutor(), maxInFlight, true);
+    }
+
+    public OrderPipeline(RestaurantFactoryMethod restaurant, ExecutorService executor, int maxInFlight) {
+        this(restaurant, executor, maxInFlight, false);
+    }
+
+    private OrderPipeline(RestaurantFactoryMethod restaurant, ExecutorService executor, int maxInFlight,
+                          boolean ownsExecutor) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight doit être positif : " + maxInFlight);
+        }
+        this.restaurant = restaurant;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    // Un thread virtuel par commande si la JVM en dispose (Java 21+), sinon un pool fixe
+    static ExecutorService defaultExecutor() {
+        try {
+            Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtual.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    public CompletableFuture<Burger> orderBurgerAsync() {
+        long start = System.nanoTime();
+        inFlight.acquireUninterruptibly();
+        try {
+            return CompletableFuture.supplyAsync(restaurant::orderBurger, executor)
+                    .whenComplete((burger, error) -> {
+                        inFlight.release();
+                        if (error == null) {
+                            completed.incrementAndGet();
+                            latencies.record(System.nanoTime() - start);
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    public CompletableFuture<List<Burger>> orderBurgers(int count) {
+        List<CompletableFuture<Burger>> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(orderBurgerAsync());
+        }
+        return CompletableFuture.allOf(orders.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<Burger> burgers = new ArrayList<>(count);
+                    for (CompletableFuture<Burger> order : orders) {
+                        burgers.add(order.join());
+                    }
+                    return burgers;
+                });
+    }
+
+    public Stats stats() {
+        double seconds = (System.nanoTime() - createdAt) / 1e9;
+        long done = completed.get();
+        return new Stats(done, failed.get(), done / seconds,
+                latencies.percentile(0.50), latencies.percentile(0.90), latencies.percentile(0.99));
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    public record Stats(long completed, long failed, double ordersPerSecond,
+                        long p50Nanos, long p90Nanos, long p99Nanos) {}
+}
@@ -0,0 +1,31 @@
+package com.numeriquepro;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// Rafales de commandes sur BeefBurgerRestaurantFactoryMethod et VeggieBurgerRestaurantFactoryMethod :
+// débit et percentiles de latence par restaurant. Les messages de prepare() sont jetés.
+// Lancement : java -cp target/classes com.numeriquepro.OrderPipelineBenchmark [commandes] [en cours max]
+public class OrderPipelineBenchmark {
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int maxInFlight = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (RestaurantFactoryMethod restaurant : new RestaurantFactoryMethod[]{
+                    new BeefBurgerRestaurantFactoryMethod(), new VeggieBurgerRestaurantFactoryMethod()}) {
+                try (OrderPipeline pipeline = new OrderPipeline(restaurant, maxInFlight)) {
+                    pipeline.orderBurgers(orders).join();
+                    OrderPipeline.Stats stats = pipeline.stats();
+                    console.printf("%-36s : %,10.0f commandes/s, p50 %,8d ns, p90 %,8d ns, p99 %,8d ns%n",
+                            restaurant.getClass().getSimpleName(), stats.ordersPerSecond(),
+                            stats.p50Nanos(), stats.p90Nanos(), stats.p99Nanos());
+                }
+            }
+        } finally {
+            System.setOut(console);
+        }
+    }
+}
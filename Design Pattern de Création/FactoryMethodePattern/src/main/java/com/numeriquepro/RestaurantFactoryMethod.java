@@ -1,11 +1,19 @@
 package com.numeriquepro;
 
 public abstract class RestaurantFactoryMethod {
+    private BurgerPool pool;
+
     public Burger orderBurger() {
-        Burger burger = createBurger();
+        Burger burger = pool != null ? pool.acquire() : createBurger();
         burger.prepare();
         return burger;
     }
 
     protected abstract Burger createBurger(); // Factory Method
+
+    // Active le recyclage : orderBurger() réutilise les burgers rendus avec close()
+    public RestaurantFactoryMethod withPooling(int localCapacity, int sharedCapacity) {
+        pool = new BurgerPool(this::createBurger, localCapacity, sharedCapacity);
+        return this;
+    }
 }
@@ -12,4 +12,11 @@ public class RestaurantSimpleFactory {
         burger.prepare();
         return burger;
     }
+
+    // typeId obtenu une fois pour toutes avec SimpleBurgerFactory.resolve()
+    public Burger orderBurger(int typeId) {
+        Burger burger = factory.createBurger(typeId);
+        burger.prepare();
+        return burger;
+    }
 }
\ No newline at end of file
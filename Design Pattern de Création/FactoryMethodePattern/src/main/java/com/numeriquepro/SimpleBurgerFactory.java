@@ -1,12 +1,55 @@
 package com.numeriquepro;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Fabrique par table : chaque type de burger reçoit un identifiant entier à l'enregistrement.
+// resolve() convertit un nom en identifiant une seule fois ; createBurger(int) n'est ensuite
+// qu'un accès à un tableau, quel que soit le nombre de types enregistrés.
 public class SimpleBurgerFactory {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // Recopié à chaque enregistrement : les lectures ne prennent aucun verrou
+    private volatile Supplier<?>[] suppliers = new Supplier<?>[0];
+
+    public SimpleBurgerFactory() {
+        register("BEEF", BeefBurger::new);
+        register("VEGGIE", VeggieBurger::new);
+    }
+
+    // Enregistre (ou remplace) un type de burger et renvoie son identifiant
+    public synchronized int register(String type, Supplier<? extends Burger> supplier) {
+        Integer existing = ids.get(type);
+        int id = existing != null ? existing : suppliers.length;
+        Supplier<?>[] table = Arrays.copyOf(suppliers, Math.max(suppliers.length, id + 1));
+        table[id] = supplier;
+        suppliers = table;
+        ids.put(type, id);
+        return id;
+    }
+
+    public int resolve(String type) {
+        Integer id = ids.get(type);
+        if (id == null) {
+            throw new IllegalArgumentException("Type de burger inconnu : " + type);
+        }
+        return id;
+    }
+
     public Burger createBurger(String type) {
-        if ("BEEF".equals(type)) {
-            return new BeefBurger();
-        } else if ("VEGGIE".equals(type)) {
-            return new VeggieBurger();
+        return createBurger(resolve(type));
+    }
+
+    public Burger createBurger(int typeId) {
+        Supplier<?>[] table = suppliers;
+        if (typeId < 0 || typeId >= table.length) {
+            throw new IllegalArgumentException("Identifiant de burger inconnu : " + typeId);
         }
-        return null;
+        return (Burger) table[typeId].get();
+    }
+
+    public int size() {
+        return suppliers.length;
     }
-}
\ No newline at end of file
+}
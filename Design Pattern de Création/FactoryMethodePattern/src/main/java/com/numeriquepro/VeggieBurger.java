@@ -2,6 +2,13 @@ package com.numeriquepro;
 
 public class VeggieBurger extends Burger{
     private String combo;
+
+    @Override
+    void reset() {
+        super.reset();
+        combo = null;
+    }
+
     @Override
     public void prepare() {
         System.out.println("Préparation du VeggieBurger...");
@@ -1,28 +1,127 @@
 package com.numeriquepro;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 public class Car implements Prototype {
-    private String brand;
-    private String model;
-    private String color;
-    private int topSpeed;
+    private State state;
 
     public Car(String brand, String model, String color, int topSpeed) {
-        this.brand = brand;
-        this.model = model;
-        this.color = color;
-        this.topSpeed = topSpeed;
+        this.state = new State(brand, model, color, topSpeed);
     }
 
     // Constructeur par copie
     public Car(Car car) {
-        this.brand = car.brand;
-        this.model = car.model;
-        this.color = car.color;
-        this.topSpeed = car.topSpeed;
+        this.state = car.state.copy();
+    }
+
+    private Car(State shared) {
+        this.state = shared;
     }
 
     @Override
     public Prototype clone() {
         return new Car(this);
     }
+
+    // Clone copy-on-write : partage l'état de this jusqu'à la première modification
+    // (de this ou du clone), qui crée alors une copie privée.
+    public Car copyOnWriteClone() {
+        freeze();
+        return new Car(state);
+    }
+
+    public Car[] cloneMany(int count) {
+        Car[] clones = new Car[count];
+        cloneInto(clones, 0, count, false);
+        return clones;
+    }
+
+    // Remplit target[from, to[ de clones copy-on-write ; parallel répartit le remplissage
+    // sur le ForkJoinPool commun (utile pour de très grands tableaux).
+    public void cloneInto(Car[] target, int from, int to, boolean parallel) {
+        freeze();
+        State shared = state;
+        if (parallel) {
+            IntStream.range(from, to).parallel().forEach(i -> target[i] = new Car(shared));
+        } else {
+            for (int i = from; i < to; i++) {
+                target[i] = new Car(shared);
+            }
+        }
+    }
+
+    public void cloneInto(List<? super Car> target, int count) {
+        freeze();
+        State shared = state;
+        for (int i = 0; i < count; i++) {
+            target.add(new Car(shared));
+        }
+    }
+
+    // Fige l'état courant : toute modification ultérieure se fera sur une copie
+    void freeze() {
+        if (!state.shared) {
+            state.shared = true;
+        }
+    }
+
+    public String getBrand() {
+        return state.brand;
+    }
+
+    public void setBrand(String brand) {
+        writableState().brand = brand;
+    }
+
+    public String getModel() {
+        return state.model;
+    }
+
+    public void setModel(String model) {
+        writableState().model = model;
+    }
+
+    public String getColor() {
+        return state.color;
+    }
+
+    public void setColor(String color) {
+        writableState().color = color;
+    }
+
+    public int getTopSpeed() {
+        return state.topSpeed;
+    }
+
+    public void setTopSpeed(int topSpeed) {
+        writableState().topSpeed = topSpeed;
+    }
+
+    private State writableState() {
+        if (state.shared) {
+            state = state.copy();
+        }
+        return state;
+    }
+
+    // Champs de la voiture ; un State marqué shared n'est plus jamais modifié
+    private static final class State {
+        private String brand;
+        private String model;
+        private String color;
+        private int topSpeed;
+        private boolean shared;
+
+        private State(String brand, String model, String color, int topSpeed) {
+            this.brand = brand;
+            this.model = model;
+            this.color = color;
+            this.topSpeed = topSpeed;
+        }
+
+        private State copy() {
+            return new State(brand, model, color, topSpeed);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package com.numeriquepro;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+// Coût d'une copie selon la stratégie (ns et octets par copie), puis clonage en masse :
+// boucle clone() + cast contre Car.cloneInto(), séquentiel et parallèle.
+// Lancement : java -cp target/classes com.numeriquepro.CloneStrategyBenchmark [copies]
+public class CloneStrategyBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static final Object[] SINK = new Object[1024];
+
+    public static void main(String[] args) {
+        int copies = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Car car = new Car("Bugatti", "Chiron", "Blue", 261);
+        CloneableCar cloneable = new CloneableCar("Bugatti", "Chiron", "Blue", 261);
+        CarRecord record = new CarRecord("Bugatti", "Chiron", "Blue", 261);
+        SerializableCar serializable = new SerializableCar("Bugatti", "Chiron", "Blue", 261);
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("--- tour " + (round + 1));
+            measure("constructeur par copie", copies, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = new Car(car);
+                }
+            });
+            measure("copy-on-write", copies, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = car.copyOnWriteClone();
+                }
+            });
+            measure("Object.clone()", copies, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = cloneable.clone();
+                }
+            });
+            measure("record (with)", copies, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = record.withTopSpeed(record.topSpeed());
+                }
+            });
+            measure("sérialisation", copies / 100, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = serializable.deepCopy();
+                }
+            });
+
+            Car[] target = new Car[copies];
+            measure("boucle clone() + cast", copies, n -> {
+                for (int i = 0; i < n; i++) {
+                    target[i] = (Car) car.clone();
+                }
+            });
+            measure("cloneInto séquentiel", copies, n -> car.cloneInto(target, 0, n, false));
+            measure("cloneInto parallèle", copies, n -> car.cloneInto(target, 0, n, true));
+        }
+    }
+
+    private static void measure(String name, int copies, IntConsumer workload) {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        workload.accept(copies);
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        // En parallèle, seules les allocations du thread courant sont comptées
+        System.out.printf("%-24s : %8.1f ns/copie, %8.1f octets/copie%n",
+                name, (double) elapsed / copies, (double) allocated / copies);
+    }
+
+    static final class CloneableCar implements Cloneable {
+        private final String brand;
+        private final String model;
+        private final String color;
+        private final int topSpeed;
+
+        CloneableCar(String brand, String model, String color, int topSpeed) {
+            this.brand = brand;
+            this.model = model;
+            this.color = color;
+            this.topSpeed = topSpeed;
+        }
+
+        @Override
+        public CloneableCar clone() {
+            try {
+                return (CloneableCar) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    record CarRecord(String brand, String model, String color, int topSpeed) {
+        CarRecord withTopSpeed(int topSpeed) {
+            return new CarRecord(brand, model, color, topSpeed);
+        }
+    }
+
+    static final class SerializableCar implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String brand;
+        private final String model;
+        private final String color;
+        private final int topSpeed;
+
+        SerializableCar(String brand, String model, String color, int topSpeed) {
+            this.brand = brand;
+            this.model = model;
+            this.color = color;
+            this.topSpeed = topSpeed;
+        }
+
+        SerializableCar deepCopy() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(this);
+                }
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                    return (SerializableCar) in.readObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -4,5 +4,12 @@ public class Main {
     public static void main(String[] args) {
         Car carA = new Car("Bugatti", "Chiron", "Blue", 261);
         Car carB = (Car) carA.clone();
+
+        // Registre : clones copy-on-write d'un prototype nommé
+        PrototypeRegistry registry = new PrototypeRegistry();
+        registry.register("sportsCar", carA);
+        Car carC = registry.get("sportsCar");
+        carC.setColor("Red"); // première modification : carC reçoit sa propre copie
+        System.out.println(registry.get("sportsCar").getColor() + " / " + carC.getColor());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.numeriquepro;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Catalogue de voitures prototypes nommées. get() renvoie un clone copy-on-write :
+// tant qu'il n'est pas modifié, le clone partage l'état du prototype et ne coûte qu'un objet.
+public class PrototypeRegistry {
+    private final ConcurrentMap<String, Car> prototypes = new ConcurrentHashMap<>();
+
+    // Le registre garde sa propre copie, figée : modifier prototype ensuite ne change pas le catalogue
+    public void register(String name, Car prototype) {
+        Car frozen = new Car(prototype);
+        frozen.freeze();
+        prototypes.put(name, frozen);
+    }
+
+    public Car get(String name) {
+        Car prototype = prototypes.get(name);
+        if (prototype == null) {
+            throw new IllegalArgumentException("Prototype inconnu : " + name);
+        }
+        return prototype.copyOnWriteClone();
+    }
+
+    public boolean contains(String name) {
+        return prototypes.containsKey(name);
+    }
+
+    public Set<String> names() {
+        return Set.copyOf(prototypes.keySet());
+    }
+}
@@ -0,0 +1,58 @@
+package com.numeriquepro;
+
+import java.lang.management.ManagementFactory;
+
+// Octets alloués et débit par clone : Car.clone() (copie immédiate) contre PrototypeRegistry.get()
+// (copy-on-write), pour des clones lus seulement puis pour des clones modifiés.
+// Lancement : java -cp target/classes com.numeriquepro.PrototypeRegistryBenchmark [clones]
+public class PrototypeRegistryBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Les clones sont publiés ici pour que le JIT ne puisse pas supprimer les allocations
+    static final Car[] SINK = new Car[1024];
+
+    public static void main(String[] args) {
+        int clones = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        Car template = new Car("Bugatti", "Chiron", "Blue", 261);
+        PrototypeRegistry registry = new PrototypeRegistry();
+        registry.register("sportsCar", template);
+
+        for (int round = 0; round < 3; round++) {
+            measure("clone() lecture", clones, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = (Car) template.clone();
+                }
+            });
+            measure("registre lecture", clones, n -> {
+                for (int i = 0; i < n; i++) {
+                    SINK[i & 1023] = registry.get("sportsCar");
+                }
+            });
+            measure("clone() modifié", clones, n -> {
+                for (int i = 0; i < n; i++) {
+                    Car car = (Car) template.clone();
+                    car.setTopSpeed(i);
+                    SINK[i & 1023] = car;
+                }
+            });
+            measure("registre modifié", clones, n -> {
+                for (int i = 0; i < n; i++) {
+                    Car car = registry.get("sportsCar");
+                    car.setTopSpeed(i);
+                    SINK[i & 1023] = car;
+                }
+            });
+        }
+    }
+
+    private static void measure(String name, int clones, java.util.function.IntConsumer workload) {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        workload.accept(clones);
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        System.out.printf("%-17s : %,14.0f clones/s, %5.1f octets/clone%n",
+                name, clones / (elapsed / 1e9), (double) allocated / clones);
+    }
+}
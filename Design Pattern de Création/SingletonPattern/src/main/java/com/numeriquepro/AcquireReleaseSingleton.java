@@ -0,0 +1,36 @@
+package com.numeriquepro;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Double vérification avec VarHandle : lecture "acquire" et publication "release"
+// au lieu d'accès volatile complets.
+public class AcquireReleaseSingleton {
+    private static AcquireReleaseSingleton instance;
+    private static final VarHandle INSTANCE;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findStaticVarHandle(
+                    AcquireReleaseSingleton.class, "instance", AcquireReleaseSingleton.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private AcquireReleaseSingleton() {}
+
+    public static AcquireReleaseSingleton getInstance() {
+        AcquireReleaseSingleton result = (AcquireReleaseSingleton) INSTANCE.getAcquire();
+        if (result == null) {
+            synchronized (AcquireReleaseSingleton.class) {
+                result = (AcquireReleaseSingleton) INSTANCE.getAcquire();
+                if (result == null) {
+                    result = new AcquireReleaseSingleton();
+                    INSTANCE.setRelease(result);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package com.numeriquepro;
+
+// Singleton par enum : thread-safe et protégé contre la sérialisation et la réflexion
+public enum EnumSingleton {
+    INSTANCE;
+
+    public static EnumSingleton getInstance() {
+        return INSTANCE;
+    }
+}
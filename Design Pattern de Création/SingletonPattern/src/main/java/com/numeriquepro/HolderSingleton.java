@@ -0,0 +1,15 @@
+package com.numeriquepro;
+
+// Initialization-on-demand holder : la JVM garantit que Holder n'est initialisée
+// qu'une fois, au premier appel de getInstance(), sans verrou sur le chemin de lecture.
+public class HolderSingleton {
+    private HolderSingleton() {}
+
+    private static class Holder {
+        private static final HolderSingleton INSTANCE = new HolderSingleton();
+    }
+
+    public static HolderSingleton getInstance() {
+        return Holder.INSTANCE;
+    }
+}
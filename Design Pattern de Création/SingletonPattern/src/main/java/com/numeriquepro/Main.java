@@ -3,5 +3,14 @@ package com.numeriquepro;
 public class Main {
     public static void main(String[] args) {
         System.out.println("Hello, World!");
+
+        // Registre : un singleton paresseux par clé, créé au premier get()
+        SingletonRegistry registry = new SingletonRegistry();
+        registry.register(HolderSingleton.class, HolderSingleton::getInstance);
+        registry.register("config", () -> "Données partagées");
+
+        System.out.println(registry.get(HolderSingleton.class) == registry.get(HolderSingleton.class));
+        System.out.println(registry.get("config", String.class));
+        System.out.println(registry.initializationTimes());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package com.numeriquepro;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+// Débit et coût moyen de getInstance() pour chaque variante, de 1 à N threads.
+// Un appel dure moins qu'un System.nanoTime() : on ne chronomètre que des lots de BATCH appels,
+// et les colonnes p50/p99 portent sur la moyenne par appel de chaque lot, pas sur des appels isolés.
+// Chaque variante a sa propre boucle pour que le JIT compile un appel direct (pas d'appel mégamorphique).
+// Lancement : java -cp target/classes com.numeriquepro.SingletonBenchmark [threads max] [durée ms]
+public class SingletonBenchmark {
+    private static final int BATCH = 1024;
+
+    enum Variant {
+        LAZY_UNSAFE {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(Singleton.getInstance());
+                }
+                return sink;
+            }
+        },
+        DOUBLE_CHECKED {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(MultithreadSingleton.getInstance());
+                }
+                return sink;
+            }
+        },
+        HOLDER {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(HolderSingleton.getInstance());
+                }
+                return sink;
+            }
+        },
+        ENUM {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(EnumSingleton.getInstance());
+                }
+                return sink;
+            }
+        },
+        ACQUIRE_RELEASE {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(AcquireReleaseSingleton.getInstance());
+                }
+                return sink;
+            }
+        },
+        REGISTRY_HANDLE {
+            @Override
+            int loop(int n) {
+                int sink = 0;
+                for (int i = 0; i < n; i++) {
+                    sink ^= System.identityHashCode(HOLDER_HANDLE.get());
+                }
+                return sink;
+            }
+        };
+
+        abstract int loop(int n);
+    }
+
+    static volatile int blackhole;
+
+    private static final SingletonRegistry.Handle<HolderSingleton> HOLDER_HANDLE =
+            new SingletonRegistry().register(HolderSingleton.class, HolderSingleton::getInstance);
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 2;
+        long durationMs = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+
+        System.out.printf("%-16s %7s %16s %14s %14s%n", "variante", "threads", "ops/s", "lot p50 ns/op", "lot p99 ns/op");
+        for (Variant variant : Variant.values()) {
+            run(variant, 1, durationMs); // préchauffage
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                Result result = run(variant, threads, durationMs);
+                System.out.printf("%-16s %7d %,16.0f %14.2f %14.2f%n", variant, threads,
+                        result.opsPerSecond, result.batchP50, result.batchP99);
+            }
+        }
+    }
+
+    private static Result run(Variant variant, int threads, long durationMs) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(threads);
+        long[] ops = new long[threads];
+        List<double[]> latencies = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            // Coût moyen par appel de chaque lot de BATCH appels
+            double[] samples = new double[(int) Math.min(1 << 20, durationMs * 1000)];
+            latencies.add(samples);
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                long deadline = System.nanoTime() + durationMs * 1_000_000;
+                int sink = 0;
+                long count = 0;
+                int sampled = 0;
+                long now = System.nanoTime();
+                while (now < deadline) {
+                    sink ^= variant.loop(BATCH);
+                    long end = System.nanoTime();
+                    if (sampled < samples.length) {
+                        samples[sampled++] = (double) (end - now) / BATCH;
+                    }
+                    count += BATCH;
+                    now = end;
+                }
+                ops[id] = count;
+                latencies.set(id, Arrays.copyOf(samples, sampled));
+                blackhole = sink;
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        double[] all = latencies.stream().flatMapToDouble(Arrays::stream).sorted().toArray();
+        long total = Arrays.stream(ops).sum();
+        return new Result(total * 1000.0 / durationMs, percentile(all, 0.50), percentile(all, 0.99));
+    }
+
+    private static double percentile(double[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * p)];
+    }
+
+    // batchP50 / batchP99 : percentiles des moyennes par lot, en ns par appel
+    private record Result(double opsPerSecond, double batchP50, double batchP99) {}
+}
@@ -0,0 +1,69 @@
+package com.numeriquepro;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CyclicBarrier;
+
+// Test de stress (à la jcstress) : deux threads appellent Singleton.getInstance() en même temps
+// sur un Singleton remis à zéro. Le résultat "DUPLICATE" montre que la version non synchronisée
+// peut créer deux instances ; MultithreadSingleton est passé au même test pour comparaison.
+// Lancement : java -cp target/classes com.numeriquepro.SingletonRaceStress [essais]
+public class SingletonRaceStress {
+    public static void main(String[] args) throws Exception {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        if (Runtime.getRuntime().availableProcessors() < 2) {
+            System.out.println("Attention : un seul cœur disponible, la course est très rarement observable");
+        }
+        stress("Singleton", Singleton.class, Singleton::getInstance, trials);
+        stress("MultithreadSingleton", MultithreadSingleton.class, MultithreadSingleton::getInstance, trials);
+    }
+
+    private static void stress(String name, Class<?> type, Actor actor, int trials) throws Exception {
+        Field instance = type.getDeclaredField("instance");
+        instance.setAccessible(true);
+
+        Object[] results = new Object[2];
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        Thread[] actors = new Thread[2];
+        for (int a = 0; a < actors.length; a++) {
+            int slot = a;
+            actors[a] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < trials; i++) {
+                        barrier.await();
+                        results[slot] = actor.getInstance();
+                        barrier.await();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            actors[a].start();
+        }
+
+        long same = 0;
+        long duplicate = 0;
+        for (int i = 0; i < trials; i++) {
+            instance.set(null, null);
+            barrier.await();
+            barrier.await();
+            if (results[0] == results[1]) {
+                same++;
+            } else {
+                duplicate++;
+            }
+        }
+        for (Thread thread : actors) {
+            thread.join();
+        }
+
+        System.out.printf("%s (%d essais)%n", name, trials);
+        System.out.printf("  %-10s %,10d  ACCEPTABLE  une seule instance%n", "SAME", same);
+        System.out.printf("  %-10s %,10d  %-10s  deux instances créées%n", "DUPLICATE", duplicate,
+                duplicate > 0 ? "FORBIDDEN" : "-");
+    }
+
+    @FunctionalInterface
+    private interface Actor {
+        Object getInstance();
+    }
+}
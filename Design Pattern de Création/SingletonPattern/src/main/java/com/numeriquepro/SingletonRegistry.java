@@ -0,0 +1,133 @@
+package com.numeriquepro;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+// Registre de singletons paresseux, un par clé (nom ou classe).
+// Chaque clé a son propre verrou d'initialisation : un initialiseur lent ne bloque
+// que les threads qui attendent cette même clé. Une fois l'instance créée, Handle.get()
+// se réduit à une lecture "acquire", sans verrou.
+public class SingletonRegistry {
+    private final ConcurrentHashMap<Object, Handle<?>> handles = new ConcurrentHashMap<>();
+    private final Queue<Initialization> initializations = new ConcurrentLinkedQueue<>();
+
+    public <T> Handle<T> register(Class<T> type, Supplier<? extends T> initializer) {
+        return register((Object) type, initializer);
+    }
+
+    public <T> Handle<T> register(String name, Supplier<? extends T> initializer) {
+        return register((Object) name, initializer);
+    }
+
+    private <T> Handle<T> register(Object key, Supplier<? extends T> initializer) {
+        Handle<T> handle = new Handle<>(this, key, Objects.requireNonNull(initializer));
+        if (handles.putIfAbsent(key, handle) != null) {
+            throw new IllegalStateException("Singleton déjà enregistré : " + key);
+        }
+        return handle;
+    }
+
+    public <T> T get(Class<T> type) {
+        return type.cast(handle(type).get());
+    }
+
+    public <T> T get(String name, Class<T> type) {
+        return type.cast(handle(name).get());
+    }
+
+    // Les appelants fréquents gardent le Handle pour éviter la recherche dans la map
+    @SuppressWarnings("unchecked")
+    public <T> Handle<T> handle(Class<T> type) {
+        return (Handle<T>) handle((Object) type);
+    }
+
+    public Handle<?> handle(String name) {
+        return handle((Object) name);
+    }
+
+    private Handle<?> handle(Object key) {
+        Handle<?> handle = handles.get(key);
+        if (handle == null) {
+            throw new IllegalArgumentException("Aucun singleton enregistré pour : " + key);
+        }
+        return handle;
+    }
+
+    // Durée d'initialisation de chaque singleton déjà créé, dans l'ordre de création
+    public Map<Object, Duration> initializationTimes() {
+        Map<Object, Duration> times = new LinkedHashMap<>();
+        for (Initialization initialization : initializations) {
+            times.put(initialization.key(), Duration.ofNanos(initialization.nanos()));
+        }
+        return times;
+    }
+
+    private record Initialization(Object key, long nanos) {}
+
+    public static final class Handle<T> {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Handle.class, "value", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final SingletonRegistry registry;
+        private final Object key;
+        private Supplier<? extends T> initializer;
+        private Thread initializingThread;
+        private Object value;
+
+        private Handle(SingletonRegistry registry, Object key, Supplier<? extends T> initializer) {
+            this.registry = registry;
+            this.key = key;
+            this.initializer = initializer;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get() {
+            Object result = VALUE.getAcquire(this);
+            if (result == null) {
+                result = initialize();
+            }
+            return (T) result;
+        }
+
+        public boolean isInitialized() {
+            return VALUE.getAcquire(this) != null;
+        }
+
+        private synchronized Object initialize() {
+            Object result = value;
+            if (result != null) {
+                return result;
+            }
+            if (initializingThread == Thread.currentThread()) {
+                throw new IllegalStateException("Dépendance circulaire lors de l'initialisation de " + key);
+            }
+            initializingThread = Thread.currentThread();
+            try {
+                long start = System.nanoTime();
+                result = Objects.requireNonNull(initializer.get(), () -> "Initialiseur null pour " + key);
+                long nanos = System.nanoTime() - start;
+                VALUE.setRelease(this, result);
+                initializer = null;
+                registry.initializations.add(new Initialization(key, nanos));
+                return result;
+            } finally {
+                initializingThread = null;
+            }
+        }
+    }
+}
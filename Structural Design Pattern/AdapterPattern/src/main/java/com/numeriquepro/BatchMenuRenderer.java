@@ -0,0 +1,31 @@
+package com.numeriquepro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+// Rendu vers une destination fournie par l'appelant, sans passer par System.out
+public interface BatchMenuRenderer extends MenuRenderer {
+    void render(String xmlMenu, Appendable sink) throws IOException;
+
+    default void renderAll(Iterable<String> xmlMenus, Appendable sink) throws IOException {
+        for (String xmlMenu : xmlMenus) {
+            render(xmlMenu, sink);
+        }
+    }
+
+    default void renderAll(Iterable<String> xmlMenus, WritableByteChannel channel) throws IOException {
+        EncodingSink sink = EncodingSink.acquire(channel);
+        try {
+            renderAll(xmlMenus, sink);
+            sink.flush();
+        } finally {
+            sink.release();
+        }
+    }
+
+    // Écrit les menus encodés en UTF-8 dans buffer (ex. tampon issu d'un pool)
+    default void renderAll(Iterable<String> xmlMenus, ByteBuffer buffer) throws IOException {
+        renderAll(xmlMenus, new EncodingSink(buffer));
+    }
+}
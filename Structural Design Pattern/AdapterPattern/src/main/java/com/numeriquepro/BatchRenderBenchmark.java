@@ -0,0 +1,80 @@
+package com.numeriquepro;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Compare render() (System.out.println par menu) à renderAll() vers un sink par thread.
+// La sortie est jetée dans les deux cas pour ne mesurer que le coût du rendu.
+// Lancement : java -cp target/classes com.numeriquepro.BatchRenderBenchmark [threads] [menus par thread]
+public class BatchRenderBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int menusPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        List<String> menus = new ArrayList<>(menusPerThread);
+        for (int i = 0; i < menusPerThread; i++) {
+            menus.add("<menu><item>Pizza " + i + "</item></menu>");
+        }
+        XmlMenuRenderer renderer = new XmlMenuRenderer();
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long[] println = new long[ROUNDS];
+        long[] batch = new long[ROUNDS];
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                println[round] = time(threads, () -> menus.forEach(renderer::render));
+                batch[round] = time(threads, () ->
+                        renderer.renderAll(menus, Channels.newChannel(OutputStream.nullOutputStream())));
+            }
+        } finally {
+            System.setOut(console);
+        }
+
+        long total = (long) threads * menusPerThread;
+        System.out.printf("%d threads, %d menus par tour%n", threads, total);
+        System.out.printf("println par menu : %,12.0f menus/s%n", total / (best(println) / 1e9));
+        System.out.printf("renderAll (sink) : %,12.0f menus/s%n", total / (best(batch) / 1e9));
+    }
+
+    private static long time(int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    task.run();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long best(long[] timings) {
+        long best = Long.MAX_VALUE;
+        for (long timing : timings) {
+            best = Math.min(best, timing);
+        }
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,190 @@
+package com.numeriquepro;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Décorateur avec cache : la sortie d'un BatchMenuRenderer (par exemple FancyUIServiceAdapter,
+// conversion XML -> JSON comprise) est gardée dans un cache LRU limité en octets, indexé par
+// l'empreinte SHA-256 du XML. Un même menu n'est rendu qu'une fois par le renderer décoré, même
+// si plusieurs threads le demandent en même temps (les autres attendent le rendu en cours).
+// Le cache est découpé en segments choisis par l'empreinte, chacun avec son LRU, son budget
+// (maxBytes / SEGMENTS) et son verrou : des menus différents ne se disputent pas un verrou unique.
+// render(xmlMenu) écrit sur System.out la sortie que le renderer décoré écrit dans un Appendable.
+public class CachingMenuRenderer implements BatchMenuRenderer {
+    private static final int SEGMENTS = 16;
+    // En-tête d'un String + tableau, plus l'entrée de la map
+    private static final long ENTRY_OVERHEAD = 96;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final BatchMenuRenderer delegate;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final ConcurrentMap<ByteBuffer, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingMenuRenderer(BatchMenuRenderer delegate, long maxBytes) {
+        if (maxBytes < SEGMENTS) {
+            throw new IllegalArgumentException("maxBytes doit valoir au moins " + SEGMENTS + " : " + maxBytes);
+        }
+        this.delegate = delegate;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxBytes / SEGMENTS);
+        }
+    }
+
+    @Override
+    public void render(String xmlMenu) {
+        System.out.print(rendered(xmlMenu));
+    }
+
+    @Override
+    public void render(String xmlMenu, Appendable sink) throws IOException {
+        sink.append(rendered(xmlMenu));
+    }
+
+    String rendered(String xmlMenu) {
+        ByteBuffer key = contentKey(xmlMenu);
+        Segment segment = segments[key.get(0) & (SEGMENTS - 1)];
+        String output = segment.get(key);
+        if (output != null) {
+            hits.increment();
+            return output;
+        }
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            // Un autre thread rend déjà ce menu : on attend son résultat
+            joined.increment();
+            return join(running);
+        }
+        try {
+            output = segment.get(key);
+            if (output != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                output = renderDelegate(xmlMenu);
+                segment.put(key, output);
+            }
+            pending.complete(output);
+            return output;
+        } catch (Throwable e) {
+            // Error compris : les threads déjà en attente sur pending ne doivent pas rester bloqués
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private String renderDelegate(String xmlMenu) {
+        StringBuilder output = new StringBuilder(xmlMenu.length() + 64);
+        try {
+            delegate.render(xmlMenu, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // un StringBuilder ne lève rien : erreur du renderer décoré
+        }
+        return output.toString();
+    }
+
+    private static long sizeOf(String output) {
+        return ENTRY_OVERHEAD + 2L * output.length();
+    }
+
+    private static ByteBuffer contentKey(String xml) {
+        MessageDigest digest = SHA_256.get();
+        return ByteBuffer.wrap(digest.digest(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String join(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        int entries = 0;
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                entries += segment.lru.size();
+                bytes += segment.bytes;
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), joined.sum(), evictions.sum(), entries, bytes);
+    }
+
+    // Une partie du cache : LRU en ordre d'accès, protégé par le verrou du segment
+    private final class Segment {
+        private final long maxBytes;
+        private final LinkedHashMap<ByteBuffer, String> lru = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        private Segment(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private synchronized String get(ByteBuffer key) {
+            return lru.get(key);
+        }
+
+        private synchronized void put(ByteBuffer key, String output) {
+            long size = sizeOf(output);
+            if (size > maxBytes) {
+                return; // plus gros que le segment entier : on ne le garde pas
+            }
+            String previous = lru.put(key, output);
+            if (previous != null) {
+                bytes -= sizeOf(previous);
+            }
+            bytes += size;
+            Iterator<Map.Entry<ByteBuffer, String>> eldest = lru.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<ByteBuffer, String> entry = eldest.next();
+                bytes -= sizeOf(entry.getValue());
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    // joined : demandes servies en attendant le rendu d'un autre thread (ni hit ni miss)
+    public record Stats(long hits, long misses, long joined, long evictions, int entries, long bytes) {
+        public double hitRate() {
+            long requests = hits + misses + joined;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.numeriquepro;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+// Appendable qui encode directement en UTF-8 dans un ByteBuffer réutilisé.
+// Avec un canal, le tampon est vidé dans le canal quand il est plein ; sans canal,
+// le tampon fourni par l'appelant (ex. issu d'un pool) reçoit les octets et
+// BufferOverflowException est levée s'il est trop petit.
+// Un EncodingSink n'est pas thread-safe : un sink par thread.
+public class EncodingSink implements Appendable, Flushable {
+    private static final int DEFAULT_CAPACITY = 16 * 1024;
+
+    // Sink de chaque thread pour BatchMenuRenderer.renderAll(menus, channel), vide s'il est en cours d'usage
+    private static final ThreadLocal<EncodingSink[]> SPARE = ThreadLocal.withInitial(() -> new EncodingSink[1]);
+
+    private WritableByteChannel channel; // changé seulement par acquire() sur le sink d'un thread
+    private final ByteBuffer buffer;
+
+    public EncodingSink(WritableByteChannel channel) {
+        this(channel, ByteBuffer.allocate(DEFAULT_CAPACITY));
+    }
+
+    public EncodingSink(WritableByteChannel channel, ByteBuffer buffer) {
+        if (buffer.capacity() < 4) {
+            throw new IllegalArgumentException("Tampon trop petit : " + buffer.capacity());
+        }
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    public EncodingSink(ByteBuffer buffer) {
+        this.channel = null;
+        this.buffer = buffer;
+    }
+
+    // Sink du thread courant relié à channel ; un nouveau si celui du thread est déjà pris
+    // (rendu imbriqué). À rendre par release() une fois vidé.
+    static EncodingSink acquire(WritableByteChannel channel) {
+        EncodingSink[] spare = SPARE.get();
+        EncodingSink sink = spare[0];
+        if (sink == null) {
+            return new EncodingSink(channel);
+        }
+        spare[0] = null;
+        sink.channel = channel;
+        return sink;
+    }
+
+    // Les octets non vidés (rendu interrompu par une exception) sont abandonnés
+    void release() {
+        channel = null;
+        buffer.clear();
+        SPARE.get()[0] = this;
+    }
+
+    @Override
+    public EncodingSink append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public EncodingSink append(CharSequence csq, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            i = appendAscii(csq, i, end);
+            if (i == end) {
+                break;
+            }
+            char c = csq.charAt(i++);
+            if (Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(csq.charAt(i))) {
+                putCodePoint(Character.toCodePoint(c, csq.charAt(i++)));
+            } else {
+                putCodePoint(Character.isSurrogate(c) ? '?' : c);
+            }
+        }
+        return this;
+    }
+
+    // Copie la suite de caractères ASCII à partir de i ; renvoie l'indice du premier caractère non ASCII
+    private int appendAscii(CharSequence csq, int i, int end) throws IOException {
+        while (i < end) {
+            ensureRemaining(1);
+            if (!buffer.hasArray()) {
+                char c = csq.charAt(i);
+                if (c >= 0x80) {
+                    return i;
+                }
+                buffer.put((byte) c);
+                i++;
+                continue;
+            }
+            byte[] array = buffer.array();
+            int first = buffer.arrayOffset() + buffer.position();
+            int limit = first + Math.min(end - i, buffer.remaining());
+            int pos = first;
+            while (pos < limit) {
+                char c = csq.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                array[pos++] = (byte) c;
+                i++;
+            }
+            buffer.position(buffer.position() + pos - first);
+            if (pos < limit) {
+                return i;
+            }
+        }
+        return i;
+    }
+
+    @Override
+    public EncodingSink append(char c) throws IOException {
+        putCodePoint(Character.isSurrogate(c) ? '?' : c);
+        return this;
+    }
+
+    private void putCodePoint(int cp) throws IOException {
+        if (cp < 0x80) {
+            ensureRemaining(1);
+            buffer.put((byte) cp);
+        } else if (cp < 0x800) {
+            ensureRemaining(2);
+            buffer.put((byte) (0xC0 | cp >> 6));
+            buffer.put((byte) (0x80 | cp & 0x3F));
+        } else if (cp < 0x10000) {
+            ensureRemaining(3);
+            buffer.put((byte) (0xE0 | cp >> 12));
+            buffer.put((byte) (0x80 | cp >> 6 & 0x3F));
+            buffer.put((byte) (0x80 | cp & 0x3F));
+        } else {
+            ensureRemaining(4);
+            buffer.put((byte) (0xF0 | cp >> 18));
+            buffer.put((byte) (0x80 | cp >> 12 & 0x3F));
+            buffer.put((byte) (0x80 | cp >> 6 & 0x3F));
+            buffer.put((byte) (0x80 | cp & 0x3F));
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (channel == null) {
+            throw new BufferOverflowException();
+        }
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Vide le tampon dans le canal ; sans canal, les octets restent dans le tampon de l'appelant
+    @Override
+    public void flush() throws IOException {
+        if (channel != null) {
+            drain();
+        }
+    }
+}
@@ -1,7 +1,25 @@
 package com.numeriquepro;
 
+import java.io.IOException;
+
 public class FancyUIService {
     public void renderJson(String jsonMenu) {
         System.out.println("Rendering JSON menu with fancy UI: " + jsonMenu);
     }
-}
\ No newline at end of file
+
+    public void renderJson(String jsonMenu, Appendable sink) throws IOException {
+        sink.append("Rendering JSON menu with fancy UI: ").append(jsonMenu).append('\n');
+    }
+
+    // Même rendu, mais le JSON est écrit directement dans le sink au lieu de passer par une String
+    public void renderJson(JsonSource jsonMenu, Appendable sink) throws IOException {
+        sink.append("Rendering JSON menu with fancy UI: ");
+        jsonMenu.writeTo(sink);
+        sink.append('\n');
+    }
+
+    @FunctionalInterface
+    public interface JsonSource {
+        void writeTo(Appendable out) throws IOException;
+    }
+}
@@ -1,18 +1,75 @@
 package com.numeriquepro;
 
-//import org.json.JSONObject;
-//import org.json.XML;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+
+public class FancyUIServiceAdapter implements BatchMenuRenderer {
+    // Les <item> d'un menu sont toujours rendus sous forme de tableau JSON
+    private static final XmlToJsonConverter MENU_CONVERTER = new XmlToJsonConverter("item");
 
-public class FancyUIServiceAdapter implements MenuRenderer {
     private final JsonMenuRenderer jsonRenderer;
+    private final XmlToJsonConverter converter;
 
     public FancyUIServiceAdapter(JsonMenuRenderer jsonRenderer) {
+        this(jsonRenderer, MENU_CONVERTER);
+    }
+
+    public FancyUIServiceAdapter(JsonMenuRenderer jsonRenderer, XmlToJsonConverter converter) {
         this.jsonRenderer = jsonRenderer;
+        this.converter = converter;
     }
 
     @Override
     public void render(String xmlMenu) {
-//        JSONObject json = XML.toJSONObject(xmlMenu);
-//        jsonRenderer.render(json.toString());
+        jsonRenderer.render(converter.convert(xmlMenu));
+    }
+
+    // Le JSON est écrit en flux dans le sink, sans String intermédiaire. Sur un XML invalide,
+    // le début du rendu est déjà dans le sink quand IllegalArgumentException est levée.
+    @Override
+    public void render(String xmlMenu, Appendable sink) throws IOException {
+        jsonRenderer.render(out -> {
+            try {
+                converter.convert(new StringReader(xmlMenu), new AppendableWriter(out));
+            } catch (XMLStreamException e) {
+                throw new IllegalArgumentException("Menu XML invalide", e);
+            }
+        }, sink);
+    }
+
+    // Writer au-dessus d'un Appendable ; flush() ne fait rien pour ne pas vider le sink à chaque menu
+    private static final class AppendableWriter extends Writer {
+        private final Appendable out;
+
+        private AppendableWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.append((char) c);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                out.append(chars[i]);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
     }
 }
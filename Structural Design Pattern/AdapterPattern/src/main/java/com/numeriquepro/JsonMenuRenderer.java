@@ -1,5 +1,7 @@
 package com.numeriquepro;
 
+import java.io.IOException;
+
 public class JsonMenuRenderer {
     private final FancyUIService fancy;
 
@@ -10,4 +12,12 @@ public class JsonMenuRenderer {
     public void render(String jsonMenu) {
         fancy.renderJson(jsonMenu);
     }
+
+    public void render(String jsonMenu, Appendable sink) throws IOException {
+        fancy.renderJson(jsonMenu, sink);
+    }
+
+    public void render(FancyUIService.JsonSource jsonMenu, Appendable sink) throws IOException {
+        fancy.renderJson(jsonMenu, sink);
+    }
 }
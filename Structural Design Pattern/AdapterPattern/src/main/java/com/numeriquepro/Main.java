@@ -13,5 +13,11 @@ public class Main {
         JsonMenuRenderer jsonRenderer = new JsonMenuRenderer(fancyUIService);
         MenuRenderer adapter = new FancyUIServiceAdapter(jsonRenderer);
         adapter.render(xmlData);
+
+        // Adapter décoré par un cache : le second rendu ne reconvertit pas le XML
+        CachingMenuRenderer cached = new CachingMenuRenderer(new FancyUIServiceAdapter(jsonRenderer), 1 << 20);
+        cached.render(xmlData);
+        cached.render(xmlData);
+        System.out.println(cached.stats());
     }
 }
\ No newline at end of file
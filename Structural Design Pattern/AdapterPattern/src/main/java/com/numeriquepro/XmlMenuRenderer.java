@@ -1,8 +1,15 @@
 package com.numeriquepro;
 
-public class XmlMenuRenderer implements MenuRenderer {
+import java.io.IOException;
+
+public class XmlMenuRenderer implements BatchMenuRenderer {
     @Override
     public void render(String xmlMenu) {
         System.out.println("Rendering XML menu: " + xmlMenu);
     }
+
+    @Override
+    public void render(String xmlMenu, Appendable sink) throws IOException {
+        sink.append("Rendering XML menu: ").append(xmlMenu).append('\n');
+    }
 }
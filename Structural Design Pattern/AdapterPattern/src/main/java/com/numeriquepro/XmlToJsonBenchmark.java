@@ -0,0 +1,170 @@
+package com.numeriquepro;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compare la conversion en flux (XmlToJsonConverter) à une conversion par arbre (DOM -> Map -> JSON).
+// Lancement : java -cp target/classes com.numeriquepro.XmlToJsonBenchmark [nbItems]
+public class XmlToJsonBenchmark {
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        byte[] xml = generateMenu(items).getBytes(StandardCharsets.UTF_8);
+        System.out.printf("Menu de %d items, %.1f Mo%n", items, xml.length / 1e6);
+
+        XmlToJsonConverter converter = new XmlToJsonConverter("item");
+        check(converter, generateMenu(3));
+        check(converter, "<menu><item>a</item><item>b</item>Titre</menu>"); // tableau suivi de texte
+        check(converter, "<menu carte=\"midi\">Titre<item id=\"1\">a</item><note>b</note></menu>");
+        check(converter, "<menu>\n  Titre\n  <item>a</item>\n  suite <b>x</b> fin\n</menu>"); // contenu mixte indenté
+        run("Flux (StAX)", xml, () -> converter.convert(new ByteArrayInputStream(xml), OutputStream.nullOutputStream()));
+        run("Arbre (DOM)", xml, () -> treeConvert(xml, Writer.nullWriter()));
+    }
+
+    private static void run(String name, byte[] xml, Task task) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        double seconds = elapsed / 1e9;
+        System.out.printf("%-12s : %8.1f Mo/s, %8.1f Mo alloués par conversion%n",
+                name, xml.length * (double) ITERATIONS / 1e6 / seconds, allocated / 1e6 / ITERATIONS);
+    }
+
+    // Les deux conversions doivent produire le même JSON
+    private static void check(XmlToJsonConverter converter, String xml) throws Exception {
+        StringWriter expected = new StringWriter();
+        treeConvert(xml.getBytes(StandardCharsets.UTF_8), expected);
+        String actual = converter.convert(xml);
+        if (!actual.equals(expected.toString())) {
+            throw new IllegalStateException("Conversion différente pour " + xml + " : " + actual + " au lieu de " + expected);
+        }
+    }
+
+    static String generateMenu(int items) {
+        StringBuilder xml = new StringBuilder(items * 96);
+        xml.append("<menu restaurant=\"Chez Numerique\">\n");
+        for (int i = 0; i < items; i++) {
+            xml.append("  <item id=\"").append(i).append("\"><name>Pizza ").append(i)
+                    .append("</name><price>").append(8 + i % 10).append(".50</price></item>\n");
+        }
+        return xml.append("</menu>").toString();
+    }
+
+    // Conversion de référence : tout le document est chargé en mémoire avant d'écrire le JSON
+    static void treeConvert(byte[] xml, Writer out) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+        Element root = document.getDocumentElement();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(root.getTagName(), toTree(root));
+        StringWriter buffer = new StringWriter();
+        writeTree(json, buffer);
+        out.write(buffer.toString());
+    }
+
+    private static Object toTree(Element element) {
+        NamedNodeMap attributes = element.getAttributes();
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+            object.put(attribute.getNodeName(), attribute.getNodeValue());
+        }
+        StringBuilder text = new StringBuilder();
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child instanceof Element childElement) {
+                text.setLength(text.toString().stripTrailing().length()); // même règle que le flux
+                Object value = toTree(childElement);
+                String name = childElement.getTagName();
+                Object previous = object.get(name);
+                if (previous instanceof List<?> list) {
+                    @SuppressWarnings("unchecked")
+                    List<Object> values = (List<Object>) list;
+                    values.add(value);
+                } else if (previous != null) {
+                    List<Object> values = new ArrayList<>();
+                    values.add(previous);
+                    values.add(value);
+                    object.put(name, values);
+                } else if ("item".equals(name)) {
+                    List<Object> values = new ArrayList<>();
+                    values.add(value);
+                    object.put(name, values);
+                } else {
+                    object.put(name, value);
+                }
+            } else if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                text.append(text.length() == 0 ? child.getNodeValue().stripLeading() : child.getNodeValue());
+            }
+        }
+        String content = text.toString().trim();
+        if (object.isEmpty()) {
+            return content;
+        }
+        if (!content.isEmpty()) {
+            object.put(XmlToJsonConverter.CONTENT_KEY, content);
+        }
+        return object;
+    }
+
+    private static void writeTree(Object value, Writer out) throws Exception {
+        if (value instanceof Map<?, ?> map) {
+            out.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                XmlToJsonConverter.writeString((String) entry.getKey(), out);
+                out.write(':');
+                writeTree(entry.getValue(), out);
+            }
+            out.write('}');
+        } else if (value instanceof List<?> list) {
+            out.write('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeTree(list.get(i), out);
+            }
+            out.write(']');
+        } else {
+            XmlToJsonConverter.writeString((String) value, out);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
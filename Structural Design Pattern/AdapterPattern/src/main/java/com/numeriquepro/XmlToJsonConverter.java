@@ -0,0 +1,313 @@
+package com.numeriquepro;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Conversion XML -> JSON en flux (StAX) : aucun arbre DOM/JSONObject n'est construit,
+// le JSON est écrit au fur et à mesure de la lecture.
+//
+// Règles de conversion (proches de org.json XML.toJSONObject) :
+//  - un élément sans attribut ni enfant devient une chaîne ;
+//  - sinon il devient un objet (attributs + enfants, texte éventuel sous "content") ;
+//  - les blancs qui entourent un enfant sont ignorés : dans un contenu mixte indenté,
+//    "Titre\n  <b/>\n  suite" donne "Titre\n  suite" ;
+//  - les éléments déclarés dans arrayElements deviennent des tableaux.
+// En flux on ne peut pas savoir à l'avance qu'un élément va se répéter :
+// une répétition d'un élément non déclaré est donc refusée.
+public class XmlToJsonConverter {
+    static final String CONTENT_KEY = "content";
+
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Set<String> arrayElements;
+
+    public XmlToJsonConverter(String... arrayElements) {
+        this(Set.of(arrayElements));
+    }
+
+    public XmlToJsonConverter(Set<String> arrayElements) {
+        this.arrayElements = Set.copyOf(arrayElements);
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    public String convert(String xml) {
+        StringWriter out = new StringWriter(xml.length() + 16);
+        try {
+            convert(new StringReader(xml), out);
+        } catch (XMLStreamException | IOException e) {
+            throw new IllegalArgumentException("Menu XML invalide", e);
+        }
+        return out.toString();
+    }
+
+    public void convert(InputStream in, OutputStream out) throws XMLStreamException, IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            convert(reader, writer);
+        } finally {
+            reader.close();
+        }
+        writer.flush();
+    }
+
+    public void convert(Reader in, Writer out) throws XMLStreamException, IOException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            convert(reader, out);
+        } finally {
+            reader.close();
+        }
+        out.flush();
+    }
+
+    private void convert(XMLStreamReader reader, Writer out) throws XMLStreamException, IOException {
+        // Pile des éléments ouverts ; frames[0] représente l'objet racine {"<root>": ...}
+        List<Frame> frames = new ArrayList<>();
+        Frame root = new Frame();
+        root.objectOpen = true;
+        frames.add(root);
+        int depth = 0;
+        out.write('{');
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    Frame parent = frames.get(depth);
+                    parent.text.trimEnd(); // indentation avant l'enfant : inutile de la garder
+                    if (!parent.objectOpen) {
+                        openObject(parent, out);
+                    }
+                    String name = reader.getLocalName();
+                    writeChildKey(parent, name, out);
+
+                    depth++;
+                    if (frames.size() == depth) {
+                        frames.add(new Frame());
+                    }
+                    Frame frame = frames.get(depth);
+                    frame.reset();
+                    int attributes = reader.getAttributeCount();
+                    if (attributes > 0) {
+                        openObject(frame, out);
+                        for (int i = 0; i < attributes; i++) {
+                            writeKey(frame, reader.getAttributeLocalName(i), out);
+                            writeString(reader.getAttributeValue(i), out);
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (depth > 0) {
+                        frames.get(depth).text.appendSkippingLeadingSpace(reader.getTextCharacters(),
+                                reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    Frame frame = frames.get(depth);
+                    if (frame.objectOpen) {
+                        closeArray(frame, out); // avant "content", sinon la clé finit dans le tableau
+                        if (!frame.text.isBlank()) {
+                            writeKey(frame, CONTENT_KEY, out);
+                            frame.text.writeTrimmed(out);
+                        }
+                        out.write('}');
+                    } else {
+                        frame.text.writeTrimmed(out);
+                    }
+                    depth--;
+                }
+                default -> {
+                    // commentaires, instructions de traitement, DTD : ignorés
+                }
+            }
+        }
+        closeArray(root, out);
+        out.write('}');
+    }
+
+    private void openObject(Frame frame, Writer out) throws IOException {
+        frame.objectOpen = true;
+        out.write('{');
+    }
+
+    private void writeChildKey(Frame parent, String name, Writer out) throws IOException, XMLStreamException {
+        if (name.equals(parent.openArray)) {
+            out.write(',');
+            return;
+        }
+        closeArray(parent, out);
+        if (!parent.seen.add(name)) {
+            throw new XMLStreamException("Élément <" + name + "> répété : déclarez-le dans arrayElements"
+                    + " et gardez ses occurrences contiguës");
+        }
+        writeKey(parent, name, out);
+        if (arrayElements.contains(name)) {
+            parent.openArray = name;
+            out.write('[');
+        }
+    }
+
+    private void closeArray(Frame frame, Writer out) throws IOException {
+        if (frame.openArray != null) {
+            frame.openArray = null;
+            out.write(']');
+        }
+    }
+
+    private void writeKey(Frame frame, String key, Writer out) throws IOException {
+        if (frame.hasFields) {
+            out.write(',');
+        }
+        frame.hasFields = true;
+        writeString(key, out);
+        out.write(':');
+    }
+
+    static void writeString(String value, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (needsEscape(c)) {
+                out.write(value, start, i - start);
+                writeEscape(c, out);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, length - start);
+        out.write('"');
+    }
+
+    // Écrit chars[from, to[ échappé, directement dans le Writer (sans copie intermédiaire)
+    static void writeString(char[] chars, int from, int to, Writer out) throws IOException {
+        out.write('"');
+        int start = from;
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            if (needsEscape(c)) {
+                out.write(chars, start, i - start);
+                writeEscape(c, out);
+                start = i + 1;
+            }
+        }
+        out.write(chars, start, to - start);
+        out.write('"');
+    }
+
+    private static boolean needsEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+
+    private static void writeEscape(char c, Writer out) throws IOException {
+        switch (c) {
+            case '"' -> out.write("\\\"");
+            case '\\' -> out.write("\\\\");
+            case '\n' -> out.write("\\n");
+            case '\r' -> out.write("\\r");
+            case '\t' -> out.write("\\t");
+            default -> {
+                out.write("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    // Texte d'un élément, accumulé dans un tampon réutilisé. Les blancs de tête et ceux qui
+    // précèdent un enfant ne sont pas gardés : entre des enfants indentés, le tampon reste vide
+    // au lieu de grandir avec leur nombre ; seul le vrai texte (contenu mixte) est conservé.
+    private static final class Text {
+        private char[] chars = new char[64];
+        private int length;
+
+        private void appendSkippingLeadingSpace(char[] source, int start, int count) {
+            int end = start + count;
+            if (length == 0) {
+                while (start < end && Character.isWhitespace(source[start])) {
+                    start++;
+                }
+            }
+            append(source, start, end - start);
+        }
+
+        private void trimEnd() {
+            length = trimmedEnd(0);
+        }
+
+        private void append(char[] source, int start, int count) {
+            if (length + count > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+            }
+            System.arraycopy(source, start, chars, length, count);
+            length += count;
+        }
+
+        private int trimmedStart() {
+            int start = 0;
+            while (start < length && Character.isWhitespace(chars[start])) {
+                start++;
+            }
+            return start;
+        }
+
+        private int trimmedEnd(int start) {
+            int end = length;
+            while (end > start && Character.isWhitespace(chars[end - 1])) {
+                end--;
+            }
+            return end;
+        }
+
+        private boolean isBlank() {
+            return trimmedStart() == length;
+        }
+
+        private void writeTrimmed(Writer out) throws IOException {
+            int start = trimmedStart();
+            writeString(chars, start, trimmedEnd(start), out);
+        }
+    }
+
+    // État d'un élément ouvert ; les frames sont réutilisées d'un élément à l'autre
+    private static final class Frame {
+        private final Text text = new Text();
+        private final Set<String> seen = new HashSet<>();
+        private boolean objectOpen;
+        private boolean hasFields;
+        private String openArray;
+
+        private void reset() {
+            text.length = 0;
+            seen.clear();
+            objectOpen = false;
+            hasFields = false;
+            openArray = null;
+        }
+    }
+}